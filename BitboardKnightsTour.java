@@ -0,0 +1,128 @@
+package com.thealgorithms.backtracking;
+
+
+/**
+ * Solves open knight's tours on the standard 8x8 board with the visited squares held
+ * in a single {@code long}. Knight attacks come from a precomputed 64-entry mask table,
+ * so the Warnsdorff degree of a square is one {@link Long#bitCount(long)} over
+ * {@code attacks[square] & ~visited} and each search node costs a handful of ALU
+ * instructions rather than a walk over the padded grid. Squares are numbered
+ * {@code row * 8 + column}; candidates of equal degree are tried in square order.
+ */
+public class BitboardKnightsTour implements KnightsTourStrategy {
+    private static final int side = 8;
+    private static final int total = side * side;
+    private static final long[] attacks = new long[total]; // knight moves from every square
+
+    static {
+        for (int sq = 0; sq < total; sq++) {
+            int row = sq / side;
+            int column = sq % side;
+            for (int[] m : KnightsGraph.moves) {
+                int r = row + m[1];
+                int c = column + m[0];
+                if (r >= 0 && r < side && c >= 0 && c < side) {
+                    attacks[sq] |= 1L << (r * side + c);
+                }
+            }
+        }
+    }
+
+    private final int[] order = new int[total]; // move number - 1 -> square
+    private final int[] candidates = new int[total * 8]; // per-depth (degree << 6 | square) keys
+    private long visited;
+
+    @Override
+    public int getRows() {
+        return side;
+    }
+
+    @Override
+    public int getColumns() {
+        return side;
+    }
+
+    @Override
+    public boolean solve(int row, int column) {
+        if (row < 0 || row >= side || column < 0 || column >= side) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        int start = row * side + column;
+        visited = 1L << start;
+        order[0] = start;
+        return search(start, 2);
+    }
+
+    @Override
+    public int[][] tour() {
+        int[][] result = new int[side][side];
+        int placed = Long.bitCount(visited);
+        for (int i = 0; i < placed; i++) {
+            result[order[i] / side][order[i] % side] = i + 1;
+        }
+        return result;
+    }
+
+    /**
+     * extends the tour from the given square, trying the unvisited targets with the
+     * fewest onward moves first and backtracking when a branch dead-ends.
+     * 
+     * @param square square the knight currently stands on.
+     * 
+     * @param count move number to be placed on the next square.
+     * 
+     * @returns true if every square has been visited.
+     */
+    private boolean search(int square, int count) {
+        if (count > total) {
+            return true;
+        }
+
+        int offset = (count - 2) * 8;
+        int size = 0;
+        for (long targets = attacks[square] & ~visited; targets != 0; targets &= targets - 1) {
+            int next = Long.numberOfTrailingZeros(targets);
+            int key = Long.bitCount(attacks[next] & ~visited) << 6 | next;
+            int i = offset + size++;
+            while (i > offset && candidates[i - 1] > key) {
+                candidates[i] = candidates[i - 1];
+                i--;
+            }
+            candidates[i] = key;
+        }
+
+        for (int i = offset; i < offset + size; i++) {
+            int next = candidates[i] & 63;
+            visited |= 1L << next;
+            order[count - 1] = next;
+            if (!orphanDetected(count, next) && search(next, count + 1)) {
+                return true;
+            }
+            visited &= ~(1L << next);
+        }
+
+        return false;
+    }
+
+    /**
+     * determines whether an unvisited target of the given square has lost its last way
+     * in or out.
+     * 
+     * @param count move number just placed on the square.
+     * 
+     * @param square square just visited.
+     * 
+     * @returns true if an orphaned target exists and the branch can be abandoned.
+     */
+    private boolean orphanDetected(int count, int square) {
+        if (count < total - 1) {
+            long free = ~visited;
+            for (long targets = attacks[square] & free; targets != 0; targets &= targets - 1) {
+                if ((attacks[Long.numberOfTrailingZeros(targets)] & free) == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,296 @@
+package com.thealgorithms.backtracking;
+import java.util.*;
+
+
+/**
+ * Serves tours from a cache shared by all instances, so that a start square is only
+ * searched once per board size and kind of tour. A square board has 8 symmetries and
+ * any other rectangle has 4, so the cache is keyed by the canonical start square,
+ * the smallest square in row-major order that a symmetry maps the start onto; the
+ * 64 start squares of 8x8 need only 10 entries. A hit is mapped back through the
+ * symmetry in one O(rows * columns) pass. Start squares that a colouring rules out
+ * are answered without searching, and a search stopped by its limits is not cached,
+ * so the next request searches again. The cache holds at most
+ * {@code maxCachedSquares} squares over all its tours and drops the least recently
+ * used tours first.
+ */
+public class CachedKnightsTour implements KnightsTourStrategy {
+    private static final int[][] none = new int[0][];
+    private static final long defaultMaxCachedSquares = 1L << 22; // 16 MB of move numbers
+    private static final Map<Key, int[][]> tours = new LinkedHashMap<>(16, 0.75f, true); // guarded by itself
+    private static long maxCachedSquares = defaultMaxCachedSquares; // guarded by tours
+    private static long cachedSquares; // guarded by tours
+
+    private final int rows;
+    private final int columns;
+    private final boolean closed;
+    private final int[][] grid;
+
+    /**
+     * creates a cached strategy for a rows x columns board.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @param closed whether to serve closed tours instead of open ones.
+     */
+    public CachedKnightsTour(int rows, int columns, boolean closed) {
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException("board must be at least 1x1, got " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.closed = closed;
+        grid = new int[rows][columns];
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * finds the tour of the canonical start square in the cache, searching for it
+     * without limits on a miss, and maps it onto the given start square.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns true if a tour was found, false otherwise.
+     */
+    @Override
+    public boolean solve(int row, int column) {
+        return solve(row, column, SearchLimits.none()) == SearchOutcome.SOLVED;
+    }
+
+    /**
+     * finds the tour of the canonical start square in the cache, searching for it on a
+     * miss, and maps it onto the given start square. Misses are searched by a
+     * {@link RestartingKnightsTour} with a fixed seed for open tours and by
+     * {@link ClosedKnightsTour} for closed ones.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param limits node budget, timeout and cancel flag of the search on a miss.
+     * 
+     * @returns SOLVED if a tour was found, NO_TOUR if the start square has none, or
+     * GAVE_UP if the limits ran out first.
+     */
+    public SearchOutcome solve(int row, int column, SearchLimits limits) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        if (!closed && KnightsTourSolver.noOpenTour(rows, columns, row, column)) {
+            clearGrid();
+            return SearchOutcome.NO_TOUR;
+        }
+        int symmetry = 0;
+        int best = row * columns + column;
+        for (int t = 1; t < symmetries(); t++) {
+            int square = transform(t, row, column);
+            if (square < best) {
+                best = square;
+                symmetry = t;
+            }
+        }
+
+        int[][] cached = lookup(new Key(rows, columns, best, closed), limits);
+        if (cached == null || cached == none) {
+            clearGrid();
+            return cached == null ? SearchOutcome.GAVE_UP : SearchOutcome.NO_TOUR;
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int square = transform(symmetry, r, c);
+                grid[r][c] = cached[square / columns][square % columns];
+            }
+        }
+        return SearchOutcome.SOLVED;
+    }
+
+    @Override
+    public int[][] tour() {
+        int[][] result = new int[rows][];
+        for (int r = 0; r < rows; r++) {
+            result[r] = grid[r].clone();
+        }
+        return result;
+    }
+
+    /**
+     * empties the cache shared by all instances.
+     */
+    public static void clearCache() {
+        synchronized (tours) {
+            tours.clear();
+            cachedSquares = 0;
+        }
+    }
+
+    /**
+     * returns the number of tours in the cache shared by all instances, counting start
+     * squares found to have none.
+     * 
+     * @returns the number of cached entries.
+     */
+    static int cachedTours() {
+        synchronized (tours) {
+            return tours.size();
+        }
+    }
+
+    /**
+     * changes how many squares the cache may hold over all its tours, for tests that
+     * need it to fill up quickly. Entries over the new budget are dropped on the next
+     * insertion.
+     * 
+     * @param squares the new budget, or 0 to restore the default one.
+     */
+    static void setMaxCachedSquares(long squares) {
+        synchronized (tours) {
+            maxCachedSquares = squares == 0 ? defaultMaxCachedSquares : squares;
+        }
+    }
+
+    /**
+     * empties the board, which is the result when no tour was found.
+     */
+    private void clearGrid() {
+        for (int[] line : grid) {
+            Arrays.fill(line, 0);
+        }
+    }
+
+    /**
+     * returns the number of symmetries of this board: 8 for a square, otherwise 4.
+     */
+    private int symmetries() {
+        return rows == columns ? 8 : 4;
+    }
+
+    /**
+     * maps a square through one of the board's symmetries: bit 0 of the index swaps
+     * rows and columns, which only square boards allow, bit 1 mirrors the rows and
+     * bit 2 mirrors the columns.
+     * 
+     * @param symmetry index of the symmetry, below {@link #symmetries()}; on boards that
+     * are not square only 0, 2, 4 and 6 are used.
+     * 
+     * @param row 0-based row of the square.
+     * 
+     * @param column 0-based column of the square.
+     * 
+     * @returns the image as row * columns + column.
+     */
+    private int transform(int symmetry, int row, int column) {
+        if (rows != columns) {
+            symmetry *= 2;
+        }
+        if ((symmetry & 1) != 0) {
+            int swap = row;
+            row = column;
+            column = swap;
+        }
+        if ((symmetry & 2) != 0) {
+            row = rows - 1 - row;
+        }
+        if ((symmetry & 4) != 0) {
+            column = columns - 1 - column;
+        }
+        return row * columns + column;
+    }
+
+    /**
+     * returns the cached tour of the given key, searching for it within the given
+     * limits and storing it on a miss. A search that gave up is not stored. The search
+     * runs outside the lock, so two threads missing on the same key may both search
+     * and the first to finish wins.
+     * 
+     * @returns the tour, {@code none} if the start square has none, or null if the
+     * search gave up.
+     */
+    private int[][] lookup(Key key, SearchLimits limits) {
+        synchronized (tours) {
+            int[][] cached = tours.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        int row = key.start / columns;
+        int column = key.start % columns;
+        KnightsTourStrategy strategy;
+        SearchOutcome outcome;
+        if (closed) {
+            ClosedKnightsTour search = new ClosedKnightsTour(rows, columns);
+            outcome = search.solve(row, column, limits);
+            strategy = search;
+        } else {
+            RestartingKnightsTour search = new RestartingKnightsTour(rows, columns, 0);
+            outcome = search.solve(row, column, limits);
+            strategy = search;
+        }
+        if (outcome == SearchOutcome.GAVE_UP) {
+            return null;
+        }
+        int[][] found = outcome == SearchOutcome.SOLVED ? strategy.tour() : none;
+
+        synchronized (tours) {
+            int[][] cached = tours.putIfAbsent(key, found);
+            if (cached != null) {
+                return cached;
+            }
+            cachedSquares += found == none ? 0 : (long) rows * columns;
+            Iterator<Map.Entry<Key, int[][]>> eldest = tours.entrySet().iterator();
+            while (cachedSquares > maxCachedSquares && eldest.hasNext()) {
+                Map.Entry<Key, int[][]> entry = eldest.next();
+                if (!entry.getKey().equals(key)) {
+                    cachedSquares -= entry.getValue() == none ? 0 : (long) entry.getKey().rows * entry.getKey().columns;
+                    eldest.remove();
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * identifies one cached tour: a board size, a canonical start square and whether
+     * the tour is closed.
+     */
+    private static final class Key {
+        private final int rows;
+        private final int columns;
+        private final int start; // canonical start square as row * columns + column
+        private final boolean closed;
+
+        Key(int rows, int columns, int start, boolean closed) {
+            this.rows = rows;
+            this.columns = columns;
+            this.start = start;
+            this.closed = closed;
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (!(other instanceof Key)) {
+                return false;
+            }
+            Key key = (Key) other;
+            return rows == key.rows && columns == key.columns && start == key.start && closed == key.closed;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rows, columns, start, closed);
+        }
+    }
+}
@@ -0,0 +1,235 @@
+package com.thealgorithms.backtracking;
+import java.time.*;
+import java.util.*;
+
+
+/**
+ * Answers tour requests for any start square from a single closed tour per board
+ * size. Because the last square of a closed tour is a knight's move from its first,
+ * the tour can start anywhere on its cycle: renumbering every square relative to the
+ * requested start is an O(rows * columns) pass with no search at all. The closed tour
+ * of each board size is searched for once by
+ * {@link KnightsTourSolver#solveClosed(int, int, SearchLimits)} and shared by all
+ * instances. Only tours that were found are cached, so a board whose search ran out
+ * of budget or of the caller's limits is searched again on the next request. The cache holds at most
+ * {@code maxCachedSquares} squares over all its tours and drops the least recently
+ * used ones first.
+ */
+public class ClosedKnightsTour implements KnightsTourStrategy {
+    private static final int[][] none = new int[0][];
+    private static final int nodesPerSquare = 20; // search budget per start square attempt
+    private static final long maxCachedSquares = 1L << 22; // 16 MB of move numbers
+    private static final Map<Long, int[][]> closedTours = new LinkedHashMap<>(16, 0.75f, true); // guarded by itself
+    private static long cachedSquares; // guarded by closedTours
+
+    private final int rows;
+    private final int columns;
+    private final int[][] grid;
+
+    /**
+     * creates a strategy for a rows x columns board.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     */
+    public ClosedKnightsTour(int rows, int columns) {
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException("board must be at least 1x1, got " + rows + "x" + columns);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        grid = new int[rows][columns];
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * rotates the closed tour of this board size so that it starts on the given square,
+     * searching for the tour without limits if it is not cached yet.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns true if a closed tour was found, false if the board has none or every
+     * search attempt ran out of its node budget.
+     */
+    @Override
+    public boolean solve(int row, int column) {
+        return solve(row, column, SearchLimits.none()) == SearchOutcome.SOLVED;
+    }
+
+    /**
+     * rotates the closed tour of this board size so that it starts on the given square.
+     * The result is itself a closed tour. A cached tour is rotated at once; otherwise
+     * the search for it runs within the given limits, which cover all its attempts
+     * together.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param limits node budget, timeout and cancel flag of the search on a cache miss.
+     * 
+     * @returns SOLVED if a closed tour was found, NO_TOUR if the board cannot hold one,
+     * or GAVE_UP if the limits ran out or every attempt ran out of its own budget first.
+     */
+    public SearchOutcome solve(int row, int column, SearchLimits limits) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        if (!KnightsTourSolver.hasClosedTour(rows, columns)) {
+            clearGrid();
+            return SearchOutcome.NO_TOUR;
+        }
+        int[][] closed = closedTour(rows, columns, limits);
+        if (closed == none) {
+            clearGrid();
+            return SearchOutcome.GAVE_UP;
+        }
+
+        int total = rows * columns;
+        int shift = total + 1 - closed[row][column];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int move = closed[r][c] + shift;
+                grid[r][c] = move > total ? move - total : move;
+            }
+        }
+        return SearchOutcome.SOLVED;
+    }
+
+    @Override
+    public int[][] tour() {
+        int[][] result = new int[rows][];
+        for (int r = 0; r < rows; r++) {
+            result[r] = grid[r].clone();
+        }
+        return result;
+    }
+
+    /**
+     * empties the board, which is the result when no tour was found.
+     */
+    private void clearGrid() {
+        for (int[] line : grid) {
+            Arrays.fill(line, 0);
+        }
+    }
+
+    /**
+     * tells whether the closed tour of a board size has already been found, so that
+     * {@link #solve(int, int, SearchLimits)} answers for it without searching.
+     * 
+     * @param rows number of rows of the board.
+     * 
+     * @param columns number of columns of the board.
+     * 
+     * @returns true if a closed tour of the size is in the cache.
+     */
+    static boolean isCached(int rows, int columns) {
+        synchronized (closedTours) {
+            return closedTours.get((long) rows << 32 | columns) != null;
+        }
+    }
+
+    /**
+     * empties the cache shared by all instances.
+     */
+    public static void clearCache() {
+        synchronized (closedTours) {
+            closedTours.clear();
+            cachedSquares = 0;
+        }
+    }
+
+    /**
+     * returns the cached closed tour of a board size, searching for it on a miss.
+     * Any closed tour will do, so the search tries start squares in turn with a node
+     * budget proportional to the board area rather than waiting out a heavy-tailed
+     * search from one fixed square. The search runs outside the lock, so two threads
+     * missing on the same size may both search and the first to finish wins.
+     * 
+     * @param rows number of rows of the board.
+     * 
+     * @param columns number of columns of the board.
+     * 
+     * @param limits node budget, timeout and cancel flag of the search on a miss.
+     * 
+     * @returns the closed tour, or {@code none} if it was not found.
+     */
+    private static int[][] closedTour(int rows, int columns, SearchLimits limits) {
+        Long key = (long) rows << 32 | columns;
+        synchronized (closedTours) {
+            int[][] cached = closedTours.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        int[][] found = search(rows, columns, limits);
+        if (found == none) {
+            return none;
+        }
+
+        synchronized (closedTours) {
+            int[][] cached = closedTours.putIfAbsent(key, found);
+            if (cached != null) {
+                return cached;
+            }
+            cachedSquares += (long) rows * columns;
+            Iterator<Map.Entry<Long, int[][]>> eldest = closedTours.entrySet().iterator();
+            while (cachedSquares > maxCachedSquares && eldest.hasNext()) {
+                Map.Entry<Long, int[][]> entry = eldest.next();
+                if (!entry.getKey().equals(key)) {
+                    cachedSquares -= (long) entry.getValue().length * entry.getValue()[0].length;
+                    eldest.remove();
+                }
+            }
+            return found;
+        }
+    }
+
+    /**
+     * searches for a closed tour of a board size from each start square in turn, with a
+     * budget of {@code nodesPerSquare} nodes per board square for every attempt, until
+     * one succeeds or the given limits run out.
+     * 
+     * @returns the closed tour, or {@code none} if no attempt found one.
+     */
+    private static int[][] search(int rows, int columns, SearchLimits limits) {
+        KnightsTourSolver solver = new KnightsTourSolver(rows, columns);
+        long budget = (long) nodesPerSquare * rows * columns;
+        long started = System.nanoTime();
+        long nodes = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                long nodesLeft = limits.getMaxNodes() - nodes;
+                long timeLeft = limits.getTimeoutNanos() == Long.MAX_VALUE
+                    ? Long.MAX_VALUE : limits.getTimeoutNanos() - (System.nanoTime() - started);
+                if (nodesLeft <= 0 || timeLeft <= 0 || limits.getCancelled().get()) {
+                    return none;
+                }
+                SearchLimits attempt = SearchLimits.none()
+                    .maxNodes(Math.min(budget, nodesLeft))
+                    .cancelledBy(limits.getCancelled());
+                if (timeLeft != Long.MAX_VALUE) {
+                    attempt = attempt.timeout(Duration.ofNanos(timeLeft));
+                }
+                if (solver.solveClosed(r, c, attempt) == SearchOutcome.SOLVED) {
+                    return solver.tour();
+                }
+                nodes += solver.getNodes();
+            }
+        }
+        return none;
+    }
+}
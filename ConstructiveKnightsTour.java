@@ -0,0 +1,434 @@
+package com.thealgorithms.backtracking;
+import java.util.*;
+import java.util.concurrent.*;
+
+
+/**
+ * Builds an open knight's tour on a large rectangular board in O(rows * columns) time
+ * and memory without searching the whole board. The board is cut into blocks of 6 to
+ * 11 rows and columns, all with an even number of squares except possibly the first,
+ * that are visited in snake order, left to right on even block
+ * rows and right to left on odd ones. Each block is covered by a small precomputed
+ * tour that enters next to the exit of the previous block and leaves a knight's move
+ * away from the entry of the next one. Block tours depend only on the block size and
+ * its two end squares, so they are searched for once, kept in a shared cache and
+ * stitched together for every board afterwards. The tour always starts in the top-left
+ * corner; its result uses the same layout as {@link KnightsTourSolver#tour()}, and
+ * {@link #build()} writes it into a {@link TourBoard} instead for boards too large for
+ * an int[][]; {@link #walk(TourSink)} streams it square by square.
+ */
+public class ConstructiveKnightsTour {
+    private static final int[][] moves = KnightsGraph.moves; // Possible moves by knight on chess
+    private static final int minBlock = 6;
+    private static final int maxBlock = 11;
+    private static final int toRight = 0; // where the next block lies
+    private static final int toLeft = 1;
+    private static final int toBelow = 2;
+    private static final int nodeBudget = 100_000; // search nodes per block tour attempt
+    private static final int[] noPath = new int[0];
+    private static final Map<Long, int[]> blockTours = new ConcurrentHashMap<>(); // (size, entry, exit) -> cell order
+    private static final Map<Long, Long> links = new ConcurrentHashMap<>(); // (sizes, entry, side) -> (exit, next entry)
+
+    private final int rows;
+    private final int columns;
+    private final int[] rowCuts; // first row of every block row, plus rows
+    private final int[] columnCuts; // first column of every block column, plus columns
+
+    /**
+     * creates a builder for a rows x columns board and decides how it is cut into
+     * blocks.
+     * 
+     * @param rows number of rows, at least 6.
+     * 
+     * @param columns number of columns, at least 6.
+     */
+    public ConstructiveKnightsTour(int rows, int columns) {
+        if (rows < minBlock || columns < minBlock) {
+            throw new IllegalArgumentException("board must be at least " + minBlock + "x" + minBlock + ", got " + rows + "x" + columns);
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("board " + rows + "x" + columns + " is too large");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        rowCuts = cuts(rows);
+        columnCuts = cuts(columns);
+    }
+
+    /**
+     * returns the number of rows of the board.
+     * 
+     * @returns the number of rows.
+     */
+    public int getRows() {
+        return rows;
+    }
+
+    /**
+     * returns the number of columns of the board.
+     * 
+     * @returns the number of columns.
+     */
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * stitches the block tours into a tour of the whole board, starting at (0, 0).
+     * 
+     * @returns a rows x columns array where each cell holds the move number at which
+     * the knight visited it.
+     */
+    public int[][] tour() {
+        int[][] grid = new int[rows][columns];
+        walk((row, column, move) -> grid[row][column] = move);
+        return grid;
+    }
+
+    /**
+     * stitches the block tours into a compact board, on the heap or off it depending
+     * on the board size, which keeps tours of 10^8 squares within a few hundred MB; see
+     * {@link TourBoard#allocate(int, int)} for where that memory comes from.
+     * 
+     * @returns a board holding the move number of every square.
+     */
+    public TourBoard build() {
+        TourBoard board = TourBoard.allocate(rows, columns);
+        walk(board);
+        return board;
+    }
+
+    /**
+     * hands every square of the tour to the given sink in order, starting at (0, 0),
+     * without keeping the tour anywhere itself. Together with a
+     * {@link MappedTourSink} this writes tours of any size with only the cached block
+     * tours in memory.
+     * 
+     * @param sink receives each square with its move number, from 1 up.
+     */
+    public void walk(TourSink sink) {
+        int blockRows = rowCuts.length - 1;
+        int blockColumns = columnCuts.length - 1;
+        int count = 0;
+        int entry = 0; // local cell of the current block the knight enters on
+
+        for (int br = 0; br < blockRows; br++) {
+            for (int step = 0; step < blockColumns; step++) {
+                int bc = br % 2 == 0 ? step : blockColumns - 1 - step;
+                int top = rowCuts[br];
+                int left = columnCuts[bc];
+                int h = rowCuts[br + 1] - top;
+                int w = columnCuts[bc + 1] - left;
+
+                int[] path;
+                if (step < blockColumns - 1) {
+                    int nc = br % 2 == 0 ? bc + 1 : bc - 1;
+                    int nw = columnCuts[nc + 1] - columnCuts[nc];
+                    long link = link(h, w, entry, h, nw, br % 2 == 0 ? toRight : toLeft);
+                    path = blockTour(h, w, entry, (int) (link >>> 32));
+                    entry = (int) link;
+                } else if (br < blockRows - 1) {
+                    long link = link(h, w, entry, rowCuts[br + 2] - rowCuts[br + 1], w, toBelow);
+                    path = blockTour(h, w, entry, (int) (link >>> 32));
+                    entry = (int) link;
+                } else {
+                    path = blockTour(h, w, entry, -1);
+                    if (path == noPath) {
+                        throw new IllegalStateException("no tour for final " + h + "x" + w + " block from " + entry);
+                    }
+                }
+
+                for (int cell : path) {
+                    sink.visit(top + cell / w, left + cell % w, ++count);
+                }
+            }
+        }
+    }
+
+    /**
+     * splits a side of the board into parts of 6 to 11 squares. Every part except the
+     * first has even length, so at most the top-left block has an odd number of
+     * squares. Even blocks hand the knight on to the next block on the colour it came
+     * in on, and an odd block must be entered and left on the colour of its corners,
+     * which for the first block is the colour of the start square; with this layout
+     * the colouring never rules out the chain of block tours.
+     * 
+     * @param length number of squares along the side.
+     * 
+     * @returns the start offset of every part followed by length.
+     */
+    private static int[] cuts(int length) {
+        if (length <= maxBlock) {
+            return new int[] {0, length};
+        }
+        int first = length % 2 == 0 ? 0 : length >= 15 ? 9 : 7;
+        int pairs = (length - first) / 2; // the rest is cut into even parts of 6, 8 or 10
+        int parts = (pairs + 4) / 5;
+        int[] result = new int[parts + (first > 0 ? 2 : 1)];
+        int at = 0;
+        if (first > 0) {
+            result[++at] = first;
+        }
+        for (int i = 0; i < parts; i++, at++) {
+            result[at + 1] = result[at] + 2 * (pairs / parts + (i < pairs % parts ? 1 : 0));
+        }
+        return result;
+    }
+
+    /**
+     * returns the cached exit of the current block and entry of the next block, picking
+     * them on first use.
+     * 
+     * @param h rows of the current block.
+     * 
+     * @param w columns of the current block.
+     * 
+     * @param entry local cell the knight enters the current block on.
+     * 
+     * @param nh rows of the next block.
+     * 
+     * @param nw columns of the next block.
+     * 
+     * @param side where the next block lies: {@code toRight}, {@code toLeft} or {@code toBelow}.
+     * 
+     * @returns the local exit cell in the upper 32 bits and the next block's local entry
+     * cell in the lower 32 bits.
+     */
+    private static long link(int h, int w, int entry, int nh, int nw, int side) {
+        long key = (long) side << 32 | (long) h << 28 | (long) w << 24 | nh << 20 | nw << 16 | entry;
+        return links.computeIfAbsent(key, k -> pickLink(h, w, entry, nh, nw, side));
+    }
+
+    /**
+     * picks the exit of the current block and the entry of the next block so that they
+     * are a knight's move apart, both ends fit the colouring of their blocks, and the
+     * current block has a tour from its entry to the chosen exit. Exits far from the
+     * entry are tried first.
+     * 
+     * @param h rows of the current block.
+     * 
+     * @param w columns of the current block.
+     * 
+     * @param entry local cell the knight enters the current block on.
+     * 
+     * @param nh rows of the next block.
+     * 
+     * @param nw columns of the next block.
+     * 
+     * @param side where the next block lies: {@code toRight}, {@code toLeft} or {@code toBelow}.
+     * 
+     * @returns the local exit cell in the upper 32 bits and the next block's local entry
+     * cell in the lower 32 bits.
+     */
+    private static long pickLink(int h, int w, int entry, int nh, int nw, int side) {
+        int top = side == toBelow ? h : 0; // origin of the next block relative to the current one
+        int left = side == toRight ? w : side == toLeft ? -nw : 0;
+        Integer[] exits = new Integer[h * w];
+        for (int i = 0; i < exits.length; i++) {
+            exits[i] = i;
+        }
+        int er = entry / w;
+        int ec = entry % w;
+        Arrays.sort(exits, Comparator.comparingInt(x -> -(Math.abs(x / w - er) + Math.abs(x % w - ec))));
+
+        for (int exit : exits) {
+            if (exit == entry || !fitsColouring(h, w, entry, exit)) {
+                continue;
+            }
+            for (int[] m : moves) {
+                int r = exit / w + m[1] - top;
+                int c = exit % w + m[0] - left;
+                if (r < 0 || r >= nh || c < 0 || c >= nw) {
+                    continue;
+                }
+                // an odd block must be entered on its majority colour, the colour of its corners
+                if ((nh * nw) % 2 == 1 && (r + c) % 2 != 0) {
+                    continue;
+                }
+                if (blockTour(h, w, entry, exit) != noPath) {
+                    return (long) exit << 32 | (r * nw + c);
+                }
+                break;
+            }
+        }
+        throw new IllegalStateException("no exit for " + h + "x" + w + " block entered at " + entry);
+    }
+
+    /**
+     * checks the bipartite colouring condition for a tour between two cells of a block:
+     * on an even block the ends have opposite colours, on an odd block both lie on the
+     * majority colour.
+     * 
+     * @param h rows of the block.
+     * 
+     * @param w columns of the block.
+     * 
+     * @param entry local start cell.
+     * 
+     * @param exit local end cell.
+     * 
+     * @returns true if a tour from entry to exit is not ruled out by colouring.
+     */
+    private static boolean fitsColouring(int h, int w, int entry, int exit) {
+        int a = (entry / w + entry % w) % 2;
+        int b = (exit / w + exit % w) % 2;
+        return (h * w) % 2 == 0 ? a != b : a == 0 && b == 0;
+    }
+
+    /**
+     * returns the cached tour of an h x w block between the given cells, searching for
+     * it on first use. Failed searches are cached too, so each block configuration is
+     * searched at most once per JVM.
+     * 
+     * @param h rows of the block.
+     * 
+     * @param w columns of the block.
+     * 
+     * @param entry local start cell.
+     * 
+     * @param exit local end cell, or -1 for a tour that may end anywhere.
+     * 
+     * @returns the local cells in visiting order, or an empty array if no tour was
+     * found within the node budget.
+     */
+    private static int[] blockTour(int h, int w, int entry, int exit) {
+        long key = (long) h << 24 | w << 16 | entry << 8 | (exit + 1);
+        return blockTours.computeIfAbsent(key, k -> searchBlock(h, w, entry, exit));
+    }
+
+    /**
+     * searches for a tour of an h x w block from entry to exit with Warnsdorff ordering,
+     * preferring squares far from the exit among equal degrees so that the exit is left
+     * for last. The exit is only stepped on as the final square, and a branch is cut as
+     * soon as an unvisited square, or the exit itself, runs out of ways in.
+     * 
+     * @param h rows of the block.
+     * 
+     * @param w columns of the block.
+     * 
+     * @param entry local start cell.
+     * 
+     * @param exit local end cell, or -1 for a tour that may end anywhere.
+     * 
+     * @returns the local cells in visiting order, or an empty array on failure.
+     */
+    private static int[] searchBlock(int h, int w, int entry, int exit) {
+        int n = h * w;
+        int[] adjacent = new int[n * moves.length];
+        int[] degree = new int[n];
+        for (int cell = 0; cell < n; cell++) {
+            for (int k = 0; k < moves.length; k++) {
+                int r = cell / w + moves[k][1];
+                int c = cell % w + moves[k][0];
+                boolean inside = r >= 0 && r < h && c >= 0 && c < w;
+                adjacent[cell * moves.length + k] = inside ? r * w + c : -1;
+                degree[cell] += inside ? 1 : 0;
+            }
+        }
+
+        boolean[] visited = new boolean[n];
+        int[] order = new int[n];
+        int[] candidates = new int[n * moves.length];
+        int[] next = new int[n];
+        int[] end = new int[n];
+
+        visit(entry, visited, degree, adjacent);
+        order[0] = entry;
+        if (n == 1) {
+            return order;
+        }
+        int count = 1; // squares visited so far
+        fill(0, entry, w, exit, visited, degree, adjacent, candidates, next, end, n);
+
+        for (int nodes = 0; nodes < nodeBudget; nodes++) {
+            int depth = count - 1;
+            if (next[depth] < end[depth]) {
+                int cell = candidates[next[depth]++] & 0xffff;
+                visit(cell, visited, degree, adjacent);
+                order[count] = cell;
+                if (!deadEnd(cell, count + 1, exit, visited, degree, adjacent, n)) {
+                    if (++count == n) {
+                        return order;
+                    }
+                    fill(depth + 1, cell, w, exit, visited, degree, adjacent, candidates, next, end, n);
+                    continue;
+                }
+                leave(cell, visited, degree, adjacent);
+            } else {
+                if (depth == 0) {
+                    break;
+                }
+                leave(order[--count], visited, degree, adjacent);
+            }
+        }
+        return noPath;
+    }
+
+    /**
+     * writes the unvisited neighbours of a cell into the candidate slice of the given
+     * depth, sorted by degree and then by distance from the exit, farthest first.
+     */
+    private static void fill(int depth, int cell, int w, int exit, boolean[] visited, int[] degree, int[] adjacent,
+            int[] candidates, int[] next, int[] end, int n) {
+        int offset = depth * moves.length;
+        int size = 0;
+        boolean last = depth + 2 == n;
+        for (int k = 0; k < moves.length; k++) {
+            int to = adjacent[cell * moves.length + k];
+            if (to < 0 || visited[to] || (to == exit && !last)) {
+                continue;
+            }
+            int distance = exit < 0 ? 0 : Math.abs(to / w - exit / w) + Math.abs(to % w - exit % w);
+            int key = (degree[to] * 32 + 31 - distance) << 16 | to;
+            int i = offset + size++;
+            while (i > offset && candidates[i - 1] > key) {
+                candidates[i] = candidates[i - 1];
+                i--;
+            }
+            candidates[i] = key;
+        }
+        next[depth] = offset;
+        end[depth] = offset + size;
+    }
+
+    /**
+     * determines whether the squares left unvisited after stepping on a cell can no
+     * longer be finished off: a neighbour without any way in or out, or an exit with no
+     * unvisited neighbour left to arrive from.
+     */
+    private static boolean deadEnd(int cell, int count, int exit, boolean[] visited, int[] degree, int[] adjacent, int n) {
+        if (count >= n - 1) {
+            return false;
+        }
+        if (exit >= 0 && degree[exit] == 0) {
+            return true;
+        }
+        for (int k = 0; k < moves.length; k++) {
+            int to = adjacent[cell * moves.length + k];
+            if (to >= 0 && !visited[to] && degree[to] == 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static void visit(int cell, boolean[] visited, int[] degree, int[] adjacent) {
+        visited[cell] = true;
+        for (int k = 0; k < moves.length; k++) {
+            int to = adjacent[cell * moves.length + k];
+            if (to >= 0) {
+                degree[to]--;
+            }
+        }
+    }
+
+    private static void leave(int cell, boolean[] visited, int[] degree, int[] adjacent) {
+        visited[cell] = false;
+        for (int k = 0; k < moves.length; k++) {
+            int to = adjacent[cell * moves.length + k];
+            if (to >= 0) {
+                degree[to]++;
+            }
+        }
+    }
+}
@@ -0,0 +1,129 @@
+package com.thealgorithms.backtracking;
+import java.util.*;
+
+
+/**
+ * The knight's move graph of a rows x columns board in compressed sparse row form.
+ * Squares are numbered row * columns + column, and the moves out of square s are the
+ * edges {@code offsets[s]} to {@code offsets[s + 1] - 1}: {@code targets} holds the
+ * square each edge leads to and {@code moveOf} the index of its move in
+ * {@link #moves}, while {@code rowOf} and {@code columnOf} spare the searches a division
+ * per square. Edges only exist for moves that stay on the board, so searches need
+ * neither bounds checks nor a padded border. Graphs are built once per board size and
+ * shared by every solver of that size; nobody may write to their arrays. The cache
+ * holds at most {@code maxCachedSquares} squares over all its graphs and drops the
+ * least recently used ones first; solvers keep the graph they were built with. The
+ * order of {@link #moves} is part of the {@link TourCodec} record format.
+ */
+final class KnightsGraph {
+    static final int[][] moves = {
+        {1, -2},
+        {2, -1},
+        {2, 1},
+        {1, 2},
+        {-1, 2},
+        {-2, 1},
+        {-2, -1},
+        {-1, -2},
+    }; // Possible moves by knight on chess, as {column offset, row offset}
+    private static final long maxCachedSquares = 1L << 21; // about 100 MB of graphs
+    private static final Map<Long, KnightsGraph> graphs = new LinkedHashMap<>(16, 0.75f, true); // guarded by itself
+    private static long cachedSquares; // guarded by graphs
+
+    final int rows;
+    final int columns;
+    final int[] offsets; // square -> its first edge, with one extra entry for the end
+    final int[] targets; // edge -> square it leads to
+    final byte[] moveOf; // edge -> index of its move in moves
+    final int[] rowOf; // square -> its row
+    final int[] columnOf; // square -> its column
+
+    private KnightsGraph(int rows, int columns) {
+        this.rows = rows;
+        this.columns = columns;
+        int total = rows * columns;
+        offsets = new int[total + 1];
+        rowOf = new int[total];
+        columnOf = new int[total];
+        int edges = 0;
+        for (int square = 0; square < total; square++) {
+            rowOf[square] = square / columns;
+            columnOf[square] = square % columns;
+            offsets[square] = edges;
+            for (int[] m : moves) {
+                if (onBoard(square / columns + m[1], square % columns + m[0])) {
+                    edges++;
+                }
+            }
+        }
+        offsets[total] = edges;
+
+        targets = new int[edges];
+        moveOf = new byte[edges];
+        for (int square = 0, edge = 0; square < total; square++) {
+            for (int k = 0; k < moves.length; k++) {
+                int r = square / columns + moves[k][1];
+                int c = square % columns + moves[k][0];
+                if (onBoard(r, c)) {
+                    targets[edge] = r * columns + c;
+                    moveOf[edge] = (byte) k;
+                    edge++;
+                }
+            }
+        }
+    }
+
+    /**
+     * returns the shared graph of a board size, building it on first use. The graph is
+     * built outside the lock, so two threads missing on the same size may both build it
+     * and the first to finish wins.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @returns the knight's move graph of a rows x columns board.
+     */
+    static KnightsGraph of(int rows, int columns) {
+        Long key = (long) rows << 32 | columns;
+        synchronized (graphs) {
+            KnightsGraph cached = graphs.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+
+        KnightsGraph built = new KnightsGraph(rows, columns);
+
+        synchronized (graphs) {
+            KnightsGraph cached = graphs.putIfAbsent(key, built);
+            if (cached != null) {
+                return cached;
+            }
+            cachedSquares += (long) rows * columns;
+            Iterator<Map.Entry<Long, KnightsGraph>> eldest = graphs.entrySet().iterator();
+            while (cachedSquares > maxCachedSquares && eldest.hasNext()) {
+                Map.Entry<Long, KnightsGraph> entry = eldest.next();
+                if (!entry.getKey().equals(key)) {
+                    cachedSquares -= (long) entry.getValue().rows * entry.getValue().columns;
+                    eldest.remove();
+                }
+            }
+            return built;
+        }
+    }
+
+    /**
+     * empties the cache of graphs. Solvers that already hold a graph keep using it.
+     */
+    static void clearCache() {
+        synchronized (graphs) {
+            graphs.clear();
+            cachedSquares = 0;
+        }
+    }
+
+    private boolean onBoard(int row, int column) {
+        return row >= 0 && row < rows && column >= 0 && column < columns;
+    }
+}
@@ -0,0 +1,155 @@
+package com.thealgorithms.backtracking;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+
+/**
+ * Solves a tour from every start square of a board at once. The squares are handed
+ * out one at a time from a shared counter to a fixed set of workers, each of which
+ * reuses one {@link RestartingKnightsTour} for all the squares it takes, so a slow
+ * square only holds up its own worker and the whole table comes back in about the
+ * time of the slowest square. Restarts are seeded the same way for every square, so
+ * the table does not depend on which worker solved what. Start squares that a
+ * colouring rules out are answered without searching, and every other square is
+ * searched within its own limits, so no square can hold up the batch for ever.
+ */
+public final class KnightsTourBatch {
+    private static final ExecutorService defaultExecutor = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "knights-tour-batch");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private static final long seed = 0; // seed of every square's restarts
+    private static final SearchLimits defaultLimits = SearchLimits.none().timeout(Duration.ofSeconds(10)); // per square
+    private static final long cancelCheckMillis = 10; // how often the caller's cancel flag is looked at
+
+    /**
+     * receives the result of each start square as soon as its worker has it.
+     */
+    public interface Listener {
+        /**
+         * called once per start square from the worker that solved it, possibly
+         * concurrently with other calls, so implementations must be thread-safe.
+         * Squares abandoned because the batch was stopped are not reported.
+         * 
+         * @param row 0-based row of the start square.
+         * 
+         * @param column 0-based column of the start square.
+         * 
+         * @param outcome SOLVED, NO_TOUR if the square has no tour, or GAVE_UP if the
+         * square's limits ran out first.
+         * 
+         * @param tour the tour from the square, or null unless the outcome is SOLVED.
+         */
+        void solved(int row, int column, SearchOutcome outcome, int[][] tour);
+    }
+
+    private KnightsTourBatch() {
+    }
+
+    /**
+     * solves every start square of a width x height board with one worker per
+     * available processor on a shared pool of daemon threads, giving up on a square
+     * after 10 seconds.
+     * 
+     * @param width number of columns, at least 1.
+     * 
+     * @param height number of rows, at least 1.
+     * 
+     * @returns the table of tours, see
+     * {@link #solveAll(int, int, SearchLimits, int, ExecutorService, Listener)}.
+     */
+    public static int[][][] solveAll(int width, int height) {
+        return solveAll(width, height, defaultLimits, Runtime.getRuntime().availableProcessors(), defaultExecutor, null);
+    }
+
+    /**
+     * solves every start square of a width x height board and returns once all of them
+     * are done. If the calling thread is interrupted, or a worker or the listener fails,
+     * the other workers abandon their searches and are waited for before the call
+     * returns or throws, so the squares that were not finished stay null. Raising the
+     * cancel flag of the limits stops the batch the same way.
+     * 
+     * @param width number of columns, at least 1.
+     * 
+     * @param height number of rows, at least 1.
+     * 
+     * @param limits node budget and timeout of each square's search, and cancel flag
+     * of the whole batch.
+     * 
+     * @param workers number of tasks sharing the squares, at least 1.
+     * 
+     * @param executor runs the workers.
+     * 
+     * @param listener receives each square's result as it finishes, or null.
+     * 
+     * @returns a table indexed by row * width + column holding the tour from each start
+     * square as a height x width array of move numbers, or null where there is none or
+     * the search gave up; the listener tells those two apart.
+     */
+    public static int[][][] solveAll(int width, int height, SearchLimits limits, int workers, ExecutorService executor,
+            Listener listener) {
+        if (width < 1 || height < 1) {
+            throw new IllegalArgumentException("board must be at least 1x1, got " + width + "x" + height);
+        }
+        if (workers < 1) {
+            throw new IllegalArgumentException("workers must be greater than zero");
+        }
+        int squares = width * height;
+        int[][][] tours = new int[squares][][];
+        AtomicInteger next = new AtomicInteger();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        SearchLimits squareLimits = limits.cancelledBy(cancelled);
+
+        List<Future<?>> running = new ArrayList<>();
+        for (int i = 0; i < Math.min(workers, squares); i++) {
+            running.add(executor.submit(() -> {
+                RestartingKnightsTour solver = new RestartingKnightsTour(height, width, seed);
+                for (int square = next.getAndIncrement(); square < squares; square = next.getAndIncrement()) {
+                    if (cancelled.get() || limits.getCancelled().get()) {
+                        return;
+                    }
+                    int row = square / width;
+                    int column = square % width;
+                    SearchOutcome outcome = solver.solve(row, column, squareLimits);
+                    if (outcome == SearchOutcome.GAVE_UP && cancelled.get()) {
+                        return;
+                    }
+                    tours[square] = outcome == SearchOutcome.SOLVED ? solver.tour() : null;
+                    if (listener != null) {
+                        listener.solved(row, column, outcome, tours[square]);
+                    }
+                }
+            }));
+        }
+
+        boolean interrupted = false;
+        ExecutionException failure = null;
+        for (int i = 0; i < running.size();) {
+            try {
+                running.get(i).get(cancelCheckMillis, TimeUnit.MILLISECONDS);
+                i++;
+            } catch (TimeoutException e) {
+                if (limits.getCancelled().get()) {
+                    cancelled.set(true);
+                }
+            } catch (InterruptedException e) {
+                interrupted = true; // keep waiting: a worker still running writes into tours
+                cancelled.set(true);
+            } catch (ExecutionException e) {
+                failure = failure == null ? e : failure;
+                cancelled.set(true);
+                i++;
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            throw new IllegalStateException("batch solver failed", failure.getCause());
+        }
+        return tours;
+    }
+}
@@ -0,0 +1,238 @@
+package com.thealgorithms.backtracking;
+import java.util.concurrent.*;
+import java.util.function.*;
+
+
+/**
+ * Counts or enumerates every open knight's tour from a start square on small boards
+ * such as 5x5 and 6x6. Where {@link KnightsTourSolver} stops at the first tour, this
+ * class walks the whole search tree: the first {@code splitDepth} moves are expanded
+ * into {@link RecursiveTask} subtasks on a {@link ForkJoinPool}, each with its own copy
+ * of the board, and the subtrees below that depth are searched sequentially and their
+ * counts summed. Pruning only cuts branches that cannot contain a tour, so the counts
+ * are exact. Moves are read from the shared {@link KnightsGraph} of the board size.
+ */
+public class KnightsTourEnumerator {
+    private static final int[][] moves = KnightsGraph.moves; // Possible moves by knight on chess
+
+    private final int rows;
+    private final int columns;
+    private final int total;
+    private final int splitDepth;
+    private final ForkJoinPool pool;
+    private final int[] offsets; // cell -> its first edge in targets, shared through KnightsGraph
+    private final int[] targets; // edge -> cell it leads to
+
+    /**
+     * creates an enumerator for a rows x columns board that splits the first 4 moves
+     * into subtasks on the common pool.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     */
+    public KnightsTourEnumerator(int rows, int columns) {
+        this(rows, columns, 4, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * creates an enumerator for a rows x columns board.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @param splitDepth number of moves after the start that are expanded into
+     * separate subtasks; 0 searches the whole tree in one task.
+     * 
+     * @param pool fork-join pool the subtasks run on.
+     */
+    public KnightsTourEnumerator(int rows, int columns, int splitDepth, ForkJoinPool pool) {
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException("board must be at least 1x1, got " + rows + "x" + columns);
+        }
+        if (splitDepth < 0) {
+            throw new IllegalArgumentException("splitDepth must not be negative, got " + splitDepth);
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.total = rows * columns;
+        this.splitDepth = splitDepth;
+        this.pool = pool;
+        KnightsGraph graph = KnightsGraph.of(rows, columns);
+        offsets = graph.offsets;
+        targets = graph.targets;
+    }
+
+    /**
+     * counts the open tours that start on the given square.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns the number of distinct tours from the square.
+     */
+    public long count(int row, int column) {
+        return forEach(row, column, null);
+    }
+
+    /**
+     * hands every open tour that starts on the given square to the given action and
+     * counts them. The action is called from the pool's worker threads, possibly
+     * concurrently, so it must be thread-safe.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param action receives each tour as a rows x columns array of move numbers, or
+     * null to only count.
+     * 
+     * @returns the number of distinct tours from the square.
+     */
+    public long forEach(int row, int column, Consumer<int[][]> action) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        int[] board = new int[total];
+        int[] degree = new int[total];
+        for (int cell = 0; cell < total; cell++) {
+            degree[cell] = offsets[cell + 1] - offsets[cell];
+        }
+        int start = row * columns + column;
+        place(board, degree, start, 1);
+        return pool.invoke(new Branch(board, degree, start, 1, action));
+    }
+
+    /**
+     * one subtree of the search: the board after {@code count} moves with the knight on
+     * {@code cell}. Above the split depth it forks a subtask per candidate move, below
+     * it searches sequentially on its own board.
+     */
+    private final class Branch extends RecursiveTask<Long> {
+        private static final long serialVersionUID = 1L;
+
+        private final int[] board;
+        private final int[] degree;
+        private final int cell;
+        private final int count;
+        private final transient Consumer<int[][]> action;
+
+        Branch(int[] board, int[] degree, int cell, int count, Consumer<int[][]> action) {
+            this.board = board;
+            this.degree = degree;
+            this.cell = cell;
+            this.count = count;
+            this.action = action;
+        }
+
+        @Override
+        protected Long compute() {
+            if (count > splitDepth || count == total) {
+                return walk(board, degree, cell, count, action);
+            }
+            Branch[] branches = new Branch[moves.length];
+            int size = 0;
+            for (int e = offsets[cell]; e < offsets[cell + 1]; e++) {
+                int next = targets[e];
+                if (board[next] != 0) {
+                    continue;
+                }
+                int[] nextBoard = board.clone();
+                int[] nextDegree = degree.clone();
+                place(nextBoard, nextDegree, next, count + 1);
+                if (!orphanDetected(nextBoard, nextDegree, next, count + 1)) {
+                    branches[size++] = new Branch(nextBoard, nextDegree, next, count + 1, action);
+                }
+            }
+            for (int i = 1; i < size; i++) {
+                branches[i].fork();
+            }
+            long sum = size > 0 ? branches[0].compute() : 0;
+            for (int i = 1; i < size; i++) {
+                sum += branches[i].join();
+            }
+            return sum;
+        }
+    }
+
+    /**
+     * counts the tours that complete the given board by depth-first search, restoring
+     * the board before returning.
+     * 
+     * @param board move number of every cell, 0 if unvisited.
+     * 
+     * @param degree unvisited knight-neighbours of every cell.
+     * 
+     * @param cell cell the knight stands on.
+     * 
+     * @param count move number of that cell.
+     * 
+     * @param action receives each completed tour, or null.
+     * 
+     * @returns the number of tours found below this node.
+     */
+    private long walk(int[] board, int[] degree, int cell, int count, Consumer<int[][]> action) {
+        if (count == total) {
+            if (action != null) {
+                action.accept(toGrid(board));
+            }
+            return 1;
+        }
+        long found = 0;
+        for (int e = offsets[cell]; e < offsets[cell + 1]; e++) {
+            int next = targets[e];
+            if (board[next] != 0) {
+                continue;
+            }
+            place(board, degree, next, count + 1);
+            if (!orphanDetected(board, degree, next, count + 1)) {
+                found += walk(board, degree, next, count + 1, action);
+            }
+            unplace(board, degree, next);
+        }
+        return found;
+    }
+
+    /**
+     * determines whether an unvisited neighbour of the given cell can no longer be
+     * reached and left again. Such a branch holds no tour, so cutting it keeps counts
+     * exact.
+     * 
+     * @returns true if the branch can be abandoned.
+     */
+    private boolean orphanDetected(int[] board, int[] degree, int cell, int count) {
+        if (count < total - 1) {
+            for (int e = offsets[cell]; e < offsets[cell + 1]; e++) {
+                int next = targets[e];
+                if (board[next] == 0 && degree[next] == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private void place(int[] board, int[] degree, int cell, int count) {
+        board[cell] = count;
+        for (int e = offsets[cell]; e < offsets[cell + 1]; e++) {
+            degree[targets[e]]--;
+        }
+    }
+
+    private void unplace(int[] board, int[] degree, int cell) {
+        board[cell] = 0;
+        for (int e = offsets[cell]; e < offsets[cell + 1]; e++) {
+            degree[targets[e]]++;
+        }
+    }
+
+    private int[][] toGrid(int[] board) {
+        int[][] grid = new int[rows][columns];
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(board, r * columns, grid[r], 0, columns);
+        }
+        return grid;
+    }
+}
@@ -0,0 +1,54 @@
+package com.thealgorithms.backtracking;
+import jdk.jfr.*;
+
+
+/**
+ * Flight Recorder event committed once per {@link KnightsTourSolver} search with the
+ * solver's counters, so that slow start squares can be told apart in a recording of
+ * a running service. The event is disabled unless a recording enables it, in which
+ * case creating it costs next to nothing.
+ */
+@Name("com.thealgorithms.backtracking.KnightsTourSolve")
+@Label("Knight's Tour Solve")
+@Category({"Algorithms", "Knight's Tour"})
+@Description("One knight's tour search with its node, backtrack and prune counts")
+@StackTrace(false)
+final class KnightsTourSolveEvent extends Event {
+    @Label("Rows")
+    int rows;
+
+    @Label("Columns")
+    int columns;
+
+    @Label("Start Row")
+    int startRow;
+
+    @Label("Start Column")
+    int startColumn;
+
+    @Label("Closed")
+    boolean closed;
+
+    @Label("Outcome")
+    String outcome;
+
+    @Label("Nodes")
+    @Description("Squares the search stepped onto")
+    long nodes;
+
+    @Label("Backtracks")
+    @Description("Squares the search stepped back from after exhausting their moves")
+    long backtracks;
+
+    @Label("Orphan Prunes")
+    @Description("Branches cut because a neighbour had no way in or out left")
+    long orphanPrunes;
+
+    @Label("Endpoint Prunes")
+    @Description("Branches cut because too many cells could only end the tour")
+    long endpointPrunes;
+
+    @Label("Split Prunes")
+    @Description("Branches cut because the unvisited cells fell apart")
+    long splitPrunes;
+}
@@ -0,0 +1,944 @@
+package com.thealgorithms.backtracking;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import jdk.jfr.*;
+
+
+/**
+ * Holds the board of a single knight's tour search and fills it with the numbers 1
+ * to total using Warnsdorff ordering and orphan pruning. Every instance owns its own
+ * board, so separate instances can solve tours on separate threads at the same time
+ * without any locking. The board is a flat array of squares numbered row * columns +
+ * column, and the knight's moves come from the {@link KnightsGraph} of the board
+ * size, which is built once and shared by every solver of that size. A single
+ * instance is not thread-safe and should be confined to one thread. Boards may be
+ * any rectangle: {@link #solve(int, int)} and {@link #solveIterative(int, int)} keep
+ * the backtracking state on an explicit stack, so a board too large for the thread
+ * stack does not overflow it. The recursive search they replaced is kept for tests
+ * as {@code solveRecursive}, which finds the same tours.
+ * {@link #solveClosed(int, int)} searches for closed tours with the same machinery, and
+ * {@link #solve(int, int, SearchLimits)} bounds a search by nodes, time or a cancel flag,
+ * and {@link #solveGreedy(int, int, SearchLimits)} tries a linear greedy walk before
+ * falling back to it.
+ * Every search counts its nodes, backtracks and prunes in plain fields that can be read
+ * back afterwards, and publishes them as a {@link KnightsTourSolveEvent} when Flight
+ * Recorder is enabled.
+ */
+public class KnightsTourSolver implements KnightsTourStrategy, MoveOrdering.Board {
+    private static final int[][] moves = KnightsGraph.moves; // Possible moves by knight on chess
+    private static final EventType solveEvent = EventType.getEventType(KnightsTourSolveEvent.class);
+    private static final int cancelCheckInterval = 4096; // nodes between checks of the clock and cancel flag, a power of two
+
+    private final int[] order; // tie-break position -> index into moves
+    private final int[] rank; // index into moves -> tie-break position
+    private final int[] delta; // index into moves -> square offset of the move
+    private final int rows;
+    private final int columns;
+    private final int total; // total squares in chess
+    private final int[] offsets; // adjacency: first edge of each square, shared through KnightsGraph
+    private final int[] targets; // adjacency: square each edge leads to
+    private final byte[] moveOf; // adjacency: index into moves of each edge
+    private final int[] rowOf; // row of each square
+    private final int[] columnOf; // column of each square
+    private final int[] board; // move number of each square, 0 if unvisited
+    private final int[] degree; // unvisited knight-neighbours of each square
+    private final int[] candidates; // per-depth sorted neighbours
+    private final int[] frameSquare; // iterative search: square each depth stands on
+    private final int[] frameNext; // iterative search: next candidate slot to try at each depth
+    private final int[] frameEnd; // iterative search: end of each depth's candidate slice
+    private int home = -1; // closed search: start square to return to, -1 for open tours
+    private boolean fellBack; // whether the last greedy walk got stuck and backtracking took over
+    private MoveOrdering ordering = MoveOrdering.warnsdorff();
+    private int lowCells; // unvisited cells with at most one unvisited neighbour
+    private final int[] mark; // flood fill: stamp of the last fill that reached each square
+    private int stamp;
+    private final int[] queue; // flood fill: squares waiting to be expanded
+    private final int[] around = new int[8]; // flood fill: unvisited neighbours of the new cell
+    private long nodes; // statistics of the last search: squares stepped onto
+    private long backtracks; // statistics of the last search: squares stepped back from
+    private final long[] backtracksAt; // statistics of the last search: backtracks per move number
+    private long orphanPrunes; // statistics of the last search: branches cut by orphanDetected
+    private long endpointPrunes; // statistics of the last search: branches cut by the endpoint count
+    private long splitPrunes; // statistics of the last search: branches cut by connectedAround
+
+    /**
+     * creates a solver for the standard 8x8 board.
+     */
+    public KnightsTourSolver() {
+        this(8, 8);
+    }
+
+    /**
+     * creates a solver for a rows x columns board.
+     * 
+     * @param rows number of playable rows, at least 1.
+     * 
+     * @param columns number of playable columns, at least 1.
+     */
+    public KnightsTourSolver(int rows, int columns) {
+        this(rows, columns, new int[] {0, 1, 2, 3, 4, 5, 6, 7});
+    }
+
+    /**
+     * creates a solver for a rows x columns board that breaks ties between cells of
+     * equal degree in the given order of moves rather than the default one. Solvers
+     * with different orders can take very different paths through the same search tree.
+     * 
+     * @param rows number of playable rows, at least 1.
+     * 
+     * @param columns number of playable columns, at least 1.
+     * 
+     * @param tieBreak permutation of the indices 0 to 7 into the knight's moves, tried
+     * first to last among cells of equal degree.
+     */
+    public KnightsTourSolver(int rows, int columns, int[] tieBreak) {
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException("board must be at least 1x1, got " + rows + "x" + columns);
+        }
+        if ((long) rows * columns * moves.length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("board " + rows + "x" + columns + " is too large");
+        }
+        if (tieBreak.length != moves.length) {
+            throw new IllegalArgumentException("tieBreak must be of size " + moves.length + ", got " + tieBreak.length);
+        }
+        order = tieBreak.clone();
+        rank = new int[moves.length];
+        Arrays.fill(rank, -1);
+        for (int k = 0; k < moves.length; k++) {
+            if (order[k] < 0 || order[k] >= moves.length || rank[order[k]] >= 0) {
+                throw new IllegalArgumentException("tieBreak must be a permutation of 0 to 7, got " + Arrays.toString(tieBreak));
+            }
+            rank[order[k]] = k;
+        }
+        delta = new int[moves.length];
+        for (int k = 0; k < moves.length; k++) {
+            delta[k] = moves[k][1] * columns + moves[k][0];
+        }
+        this.rows = rows;
+        this.columns = columns;
+        total = rows * columns;
+        KnightsGraph graph = KnightsGraph.of(rows, columns);
+        offsets = graph.offsets;
+        targets = graph.targets;
+        moveOf = graph.moveOf;
+        rowOf = graph.rowOf;
+        columnOf = graph.columnOf;
+        board = new int[total];
+        degree = new int[total];
+        candidates = new int[total * moves.length];
+        frameSquare = new int[total];
+        frameNext = new int[total];
+        frameEnd = new int[total];
+        mark = new int[total];
+        queue = new int[total];
+        backtracksAt = new long[total + 1];
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    @Override
+    public boolean isFree(int row, int column) {
+        return row >= 0 && row < rows && column >= 0 && column < columns && board[row * columns + column] == 0;
+    }
+
+    @Override
+    public int degree(int row, int column) {
+        return row >= 0 && row < rows && column >= 0 && column < columns ? degree[row * columns + column] : 0;
+    }
+
+    /**
+     * replaces the rule that decides between cells of equal degree, Warnsdorff's plain
+     * move order by default. Orderings that keep state, such as
+     * {@link MoveOrdering#random(long)}, should not be shared between solvers.
+     * 
+     * @param ordering tie-break rule used by every later open-tour search.
+     */
+    public void setMoveOrdering(MoveOrdering ordering) {
+        this.ordering = Objects.requireNonNull(ordering, "ordering");
+    }
+
+    /**
+     * searches for an open tour with the iterative search of
+     * {@link #solveIterative(int, int)}, without limits.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns true if a tour visiting every square was found, false otherwise.
+     */
+    @Override
+    public boolean solve(int row, int column) {
+        return solveIterative(row, column);
+    }
+
+    /**
+     * searches like {@link #solve(int, int)} but recursing once per placed square, as
+     * the solver did before the iterative search. It finds the same tours and is kept
+     * as a reference for them; boards of more than a few thousand squares can overflow
+     * the thread stack.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns true if a tour visiting every square was found, false otherwise.
+     */
+    boolean solveRecursive(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        KnightsTourSolveEvent event = beginEvent();
+        reset();
+        place(row * columns + column, 1);
+        boolean found = !noOpenTour(rows, columns, row, column) && solveFrom(row * columns + column, 2);
+        record(event, row, column, false, found ? SearchOutcome.SOLVED : SearchOutcome.NO_TOUR);
+        return found;
+    }
+
+    /**
+     * searches for the same tour as the recursive search but keeps the backtracking
+     * state on a primitive stack of (square, candidate index) frames instead of the
+     * call stack, so boards of millions of squares need no more than a default thread
+     * stack. It is no faster than the recursive search: on large boards the backtracking
+     * can still run for a very long time from many start squares.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns true if a tour visiting every square was found, false otherwise.
+     */
+    public boolean solveIterative(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        return solveIterative(row, column, SearchLimits.none().getCancelled());
+    }
+
+    /**
+     * searches like {@link #solveIterative(int, int)} but gives up as soon as the given
+     * flag is raised, so that another thread can stop a search that is no longer needed.
+     * The flag is only read every few thousand search nodes.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param cancelled flag another thread sets to stop the search.
+     * 
+     * @returns true if a tour was found before the flag was raised, false otherwise.
+     */
+    public boolean solveIterative(int row, int column, AtomicBoolean cancelled) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        return run(row, column, false, Long.MAX_VALUE, Long.MAX_VALUE, cancelled) == SearchOutcome.SOLVED;
+    }
+
+    /**
+     * searches like {@link #solveIterative(int, int)} within the given limits. Unlike
+     * the boolean methods it tells a start square with no tour apart from a search that
+     * was stopped, so that a caller can fall back to another strategy in that case.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param limits node budget, timeout and cancel flag of the search.
+     * 
+     * @returns SOLVED if a tour was found, NO_TOUR if the whole search tree was
+     * exhausted, or GAVE_UP if a limit stopped the search first.
+     */
+    public SearchOutcome solve(int row, int column, SearchLimits limits) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        return run(row, column, false, limits.getMaxNodes(), limits.getTimeoutNanos(), limits.getCancelled());
+    }
+
+    /**
+     * searches for an open tour with a single greedy Warnsdorff walk first: each step
+     * goes to the unvisited neighbour with the fewest onward moves, ties broken as in
+     * {@link #solve(int, int)}, with no pruning and no backtracking, so the walk takes
+     * time linear in the number of squares. It rarely gets stuck on large boards, and
+     * only then is the board cleared and the backtracking search of
+     * {@link #solve(int, int, SearchLimits)} run from the same start square. The
+     * counters and the Flight Recorder event cover the walk and the fallback together.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param limits node budget, timeout and cancel flag of the fallback search; the
+     * greedy walk itself is never stopped, but its nodes count against the budget.
+     * 
+     * @returns SOLVED if a tour was found, NO_TOUR if the fallback search exhausted the
+     * whole search tree, or GAVE_UP if a limit stopped the fallback search first.
+     */
+    public SearchOutcome solveGreedy(int row, int column, SearchLimits limits) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        KnightsTourSolveEvent event = beginEvent();
+        reset();
+        int square = row * columns + column;
+        place(square, 1);
+        int count = 2;
+        if (!noOpenTour(rows, columns, row, column)) {
+            while (count <= total && neighbors(square, 0) > 0) {
+                square += delta[order[candidates[0] & 7]];
+                place(square, count++);
+                nodes++;
+            }
+        }
+        fellBack = count <= total;
+        if (!fellBack) {
+            record(event, row, column, false, SearchOutcome.SOLVED);
+            return SearchOutcome.SOLVED;
+        }
+        return run(event, row, column, false, limits.getMaxNodes(), limits.getTimeoutNanos(), limits.getCancelled());
+    }
+
+    /**
+     * tells whether the last {@link #solveGreedy(int, int, SearchLimits)} had to fall
+     * back to the backtracking search.
+     * 
+     * @returns true if the greedy walk got stuck, false if it completed the tour.
+     */
+    public boolean usedFallback() {
+        return fellBack;
+    }
+
+    /**
+     * searches for a closed tour, one whose last square is a knight's move away from
+     * the start square, so that the tour can be rotated to begin on any square. Boards
+     * that cannot hold a closed tour are rejected without searching.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns true if a closed tour was found, false otherwise.
+     */
+    public boolean solveClosed(int row, int column) {
+        return solveClosed(row, column, SearchLimits.none()) == SearchOutcome.SOLVED;
+    }
+
+    /**
+     * searches for a closed tour like {@link #solveClosed(int, int)} within the given
+     * limits.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param limits node budget, timeout and cancel flag of the search.
+     * 
+     * @returns SOLVED if a closed tour was found, NO_TOUR if the board has none or the
+     * whole search tree was exhausted, or GAVE_UP if a limit stopped the search first.
+     */
+    public SearchOutcome solveClosed(int row, int column, SearchLimits limits) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        if (!hasClosedTour(rows, columns)) {
+            return SearchOutcome.NO_TOUR;
+        }
+        return run(row, column, true, limits.getMaxNodes(), limits.getTimeoutNanos(), limits.getCancelled());
+    }
+
+    /**
+     * tells whether a rows x columns board has a closed tour at all, following Schwenk's
+     * theorem: with m the shorter side, there is none when both sides are odd, when m
+     * is 1, 2 or 4, or when m is 3 and the other side is 4, 6 or 8.
+     * 
+     * @param rows number of rows of the board.
+     * 
+     * @param columns number of columns of the board.
+     * 
+     * @returns true if the board has a closed tour.
+     */
+    public static boolean hasClosedTour(int rows, int columns) {
+        int m = Math.min(rows, columns);
+        int n = Math.max(rows, columns);
+        if (m % 2 == 1 && n % 2 == 1) {
+            return false;
+        }
+        if (m == 1 || m == 2 || m == 4) {
+            return false;
+        }
+        return m != 3 || (n != 4 && n != 6 && n != 8);
+    }
+
+    /**
+     * tells whether an open tour from the given square is ruled out by colouring alone.
+     * A knight changes colour on every move, so on a board with an odd number of squares
+     * a tour starts and ends on the majority colour, the colour of the corners. On a
+     * board four squares wide, the squares of the two outer lines only lead to squares
+     * of the two inner lines and there are as many of each, so a tour starting on an
+     * inner line would have to alternate outer and inner squares all the way, which
+     * would put every outer square on one colour; a tour therefore starts and ends on
+     * an outer line. A start ruled out either way has no tour however long it is
+     * searched for.
+     * 
+     * @param rows number of rows of the board.
+     * 
+     * @param columns number of columns of the board.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns true if the start square cannot begin an open tour.
+     */
+    static boolean noOpenTour(int rows, int columns, int row, int column) {
+        return (long) rows * columns % 2 == 1 && (row + column) % 2 == 1
+            || rows == 4 && (row == 1 || row == 2)
+            || columns == 4 && (column == 1 || column == 2);
+    }
+
+    /**
+     * returns the number of squares the last search stepped onto, including those it
+     * stepped straight back from because the branch was pruned.
+     * 
+     * @returns the node count of the last search.
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * returns the number of squares the last search stepped back from after trying
+     * every move out of them.
+     * 
+     * @returns the backtrack count of the last search.
+     */
+    public long getBacktracks() {
+        return backtracks;
+    }
+
+    /**
+     * returns the number of times the last search stepped back from the square of the
+     * given move number, which shows at what depth a slow search was stuck.
+     * 
+     * @param move move number, from 1 to rows * columns.
+     * 
+     * @returns the backtrack count of the last search at that move number.
+     */
+    public long getBacktracks(int move) {
+        if (move < 1 || move > total) {
+            throw new IllegalArgumentException("move must be between 1 and " + total + ", got " + move);
+        }
+        return backtracksAt[move];
+    }
+
+    /**
+     * returns the number of branches the last search cut because a neighbour of the new
+     * square was left with no way in or out.
+     * 
+     * @returns the orphan prune count of the last search.
+     */
+    public long getOrphanPrunes() {
+        return orphanPrunes;
+    }
+
+    /**
+     * returns the number of branches the last search cut because more unvisited cells
+     * could only be the end of the tour than a single path has ends.
+     * 
+     * @returns the endpoint prune count of the last search.
+     */
+    public long getEndpointPrunes() {
+        return endpointPrunes;
+    }
+
+    /**
+     * returns the number of branches the last search cut because the unvisited cells
+     * were split into separate regions.
+     * 
+     * @returns the split prune count of the last search.
+     */
+    public long getSplitPrunes() {
+        return splitPrunes;
+    }
+
+    /**
+     * numbers the start square, runs the iterative search and publishes its counters.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param closed whether the tour must end a knight's move away from the start.
+     * 
+     * @param maxNodes number of squares the search may step onto before giving up.
+     * 
+     * @param timeoutNanos time the search may take before giving up.
+     * 
+     * @param cancelled flag that stops the search when raised.
+     * 
+     * @returns how the search ended.
+     */
+    private SearchOutcome run(int row, int column, boolean closed, long maxNodes, long timeoutNanos, AtomicBoolean cancelled) {
+        KnightsTourSolveEvent event = beginEvent();
+        resetCounters();
+        return run(event, row, column, closed, maxNodes, timeoutNanos, cancelled);
+    }
+
+    /**
+     * clears the board, numbers the start square and runs the iterative search like
+     * {@link #run(int, int, boolean, long, long, AtomicBoolean)}, but adds to the
+     * counters of an earlier attempt and reports to its event instead of starting over.
+     * 
+     * @param event event of the solve this search belongs to, or null.
+     * 
+     * @returns how the search ended.
+     */
+    private SearchOutcome run(KnightsTourSolveEvent event, int row, int column, boolean closed, long maxNodes, long timeoutNanos,
+            AtomicBoolean cancelled) {
+        int start = row * columns + column;
+        clearBoard();
+        place(start, 1);
+        if (closed) {
+            home = start;
+        }
+        SearchOutcome outcome = !closed && noOpenTour(rows, columns, row, column)
+                ? SearchOutcome.NO_TOUR
+                : search(start, closed, maxNodes, timeoutNanos, cancelled);
+        record(event, row, column, closed, outcome);
+        return outcome;
+    }
+
+    /**
+     * starts timing a search for Flight Recorder. The event is only created while a
+     * recording has it enabled, so that solves allocate nothing otherwise.
+     * 
+     * @returns the started event, or null if it is disabled.
+     */
+    private static KnightsTourSolveEvent beginEvent() {
+        if (!solveEvent.isEnabled()) {
+            return null;
+        }
+        KnightsTourSolveEvent event = new KnightsTourSolveEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * commits the counters of the search that just ended to the given event, if a
+     * recording wants it.
+     */
+    private void record(KnightsTourSolveEvent event, int row, int column, boolean closed, SearchOutcome outcome) {
+        if (event == null) {
+            return;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.rows = rows;
+            event.columns = columns;
+            event.startRow = row;
+            event.startColumn = column;
+            event.closed = closed;
+            event.outcome = outcome.name();
+            event.nodes = nodes;
+            event.backtracks = backtracks;
+            event.orphanPrunes = orphanPrunes;
+            event.endpointPrunes = endpointPrunes;
+            event.splitPrunes = splitPrunes;
+            event.commit();
+        }
+    }
+
+    /**
+     * runs the explicit-stack backtracking search from a numbered start cell. In closed
+     * mode a branch is also abandoned once the start has no unvisited neighbour left to
+     * return from, and a full board only counts if its last cell neighbours the start.
+     * 
+     * @param start square of the start cell.
+     * 
+     * @param closed whether the tour must end a knight's move away from the start.
+     * 
+     * @param maxNodes number of squares the search may step onto before giving up.
+     * 
+     * @param timeoutNanos time the search may take before giving up, Long.MAX_VALUE for
+     * no limit; the clock is read every {@code cancelCheckInterval} nodes.
+     * 
+     * @param cancelled flag that stops the search when raised, read every
+     * {@code cancelCheckInterval} nodes.
+     * 
+     * @returns how the search ended.
+     */
+    private SearchOutcome search(int start, boolean closed, long maxNodes, long timeoutNanos, AtomicBoolean cancelled) {
+        if (total == 1) {
+            return closed ? SearchOutcome.NO_TOUR : SearchOutcome.SOLVED;
+        }
+
+        int count = 2;
+        push(0, start);
+        long started = timeoutNanos == Long.MAX_VALUE ? 0 : System.nanoTime();
+
+        while (true) {
+            int depth = count - 2;
+            if (frameNext[depth] < frameEnd[depth]) {
+                if (nodes >= maxNodes) {
+                    return SearchOutcome.GAVE_UP;
+                }
+                nodes++;
+                if ((nodes & cancelCheckInterval - 1) == 0 && (cancelled.get()
+                        || timeoutNanos != Long.MAX_VALUE && System.nanoTime() - started >= timeoutNanos)) {
+                    return SearchOutcome.GAVE_UP;
+                }
+                int next = frameSquare[depth] + delta[order[candidates[frameNext[depth]++] & 7]];
+                place(next, count);
+                if (!pruned(count, next) && (!closed || canClose(count, next, start))) {
+                    if (count == total) {
+                        return SearchOutcome.SOLVED;
+                    }
+                    count++;
+                    push(depth + 1, next);
+                    continue;
+                }
+                unplace(next);
+            } else {
+                if (depth == 0) {
+                    return SearchOutcome.NO_TOUR;
+                }
+                count--;
+                backtracks++;
+                backtracksAt[count]++;
+                unplace(frameSquare[depth]);
+            }
+        }
+    }
+
+    /**
+     * checks whether a closed tour is still possible after numbering the given cell.
+     * 
+     * @param count move number just placed on the cell.
+     * 
+     * @param square square of the cell just numbered.
+     * 
+     * @param start square of the start cell.
+     * 
+     * @returns true if the last cell neighbours the start, or if the board is not yet
+     * full and the start still has an unvisited neighbour to return from.
+     */
+    private boolean canClose(int count, int square, int start) {
+        if (count == total) {
+            return Math.abs(rowOf[square] - rowOf[start]) * Math.abs(columnOf[square] - columnOf[start]) == 2;
+        }
+        return degree[start] > 0;
+    }
+
+    /**
+     * opens the frame of the given depth on the given cell and fills its slice of
+     * {@code candidates}.
+     * 
+     * @param depth frame index, equal to the move number of the cell minus 1.
+     * 
+     * @param square square of the cell the knight stands on.
+     */
+    private void push(int depth, int square) {
+        int offset = depth * moves.length;
+        frameSquare[depth] = square;
+        frameNext[depth] = offset;
+        frameEnd[depth] = offset + neighbors(square, offset);
+    }
+
+    @Override
+    public int[][] tour() {
+        int[][] result = new int[rows][columns];
+        for (int r = 0; r < result.length; r++) {
+            System.arraycopy(board, r * columns, result[r], 0, columns);
+        }
+        return result;
+    }
+
+    /**
+     * clears every square and records the number of knight-neighbours of each. The
+     * counters of the previous search are cleared as well.
+     */
+    private void reset() {
+        resetCounters();
+        clearBoard();
+    }
+
+    /**
+     * clears the counters of the previous search.
+     */
+    private void resetCounters() {
+        nodes = 0;
+        backtracks = 0;
+        Arrays.fill(backtracksAt, 0);
+        orphanPrunes = 0;
+        endpointPrunes = 0;
+        splitPrunes = 0;
+    }
+
+    /**
+     * clears every square and records the number of knight-neighbours of each.
+     */
+    private void clearBoard() {
+        home = -1;
+        Arrays.fill(board, 0);
+        lowCells = 0;
+        for (int square = 0; square < total; square++) {
+            degree[square] = offsets[square + 1] - offsets[square];
+            if (degree[square] <= 1) {
+                lowCells++;
+            }
+        }
+    }
+
+    /**
+     * numbers the given cell and takes it away from the degree of each of its knight
+     * neighbours.
+     * 
+     * @param square square of the cell being visited.
+     * 
+     * @param count move number placed on the cell.
+     */
+    private void place(int square, int count) {
+        board[square] = count;
+        if (degree[square] <= 1) {
+            lowCells--;
+        }
+        for (int edge = offsets[square]; edge < offsets[square + 1]; edge++) {
+            int next = targets[edge];
+            if (--degree[next] == 1 && board[next] == 0) {
+                lowCells++;
+            }
+        }
+    }
+
+    /**
+     * clears the given cell and gives it back to the degree of each of its knight
+     * neighbours, undoing {@link #place(int, int)}.
+     * 
+     * @param square square of the cell being cleared.
+     */
+    private void unplace(int square) {
+        board[square] = 0;
+        if (degree[square] <= 1) {
+            lowCells++;
+        }
+        for (int edge = offsets[square]; edge < offsets[square + 1]; edge++) {
+            int next = targets[edge];
+            if (degree[next]++ == 1 && board[next] == 0) {
+                lowCells--;
+            }
+        }
+    }
+
+    /**
+     * checks whether the board can be completed from the given cell by recursively
+     * placing move numbers on the neighbours with the fewest onward moves first. The
+     * candidates of each depth live in their own slice of {@code candidates}, so the
+     * search allocates nothing once the solver has been constructed.
+     * 
+     * @param square square of the cell the knight currently stands on.
+     * 
+     * @param count move number to be placed on the next cell.
+     * 
+     * @returns true if every square has been numbered.
+     */
+    private boolean solveFrom(int square, int count) {
+        if (count > total) {
+            return true;
+        }
+
+        int offset = (count - 2) * moves.length;
+        int size = neighbors(square, offset);
+
+        if (size == 0 && count != total) {
+            return false;
+        }
+
+        for (int i = offset; i < offset + size; i++) {
+            int next = square + delta[order[candidates[i] & 7]];
+            place(next, count);
+            nodes++;
+            if (!pruned(count, next)) {
+                if (solveFrom(next, count + 1)) {
+                    return true;
+                }
+                backtracks++;
+                backtracksAt[count]++;
+            }
+            unplace(next);
+        }
+
+        return false;
+    }
+
+    /**
+     * writes the unvisited cells a knight's move away from the given cell into
+     * {@code candidates}, ordered by their own number of unvisited neighbours. Each
+     * entry is {@code (degree * 64 + tieBreak) * 8 + rank}, where the rank of the move
+     * in the solver's tie-break order settles cells that are otherwise equal, and the
+     * insertion sort over at most 8 entries puts them in order.
+     * The tie-break comes from the solver's {@link MoveOrdering} for open tours; closed
+     * tours prefer cells far from the start instead, so that the squares around it are
+     * left for the end of the tour.
+     * 
+     * @param square square of the cell being examined.
+     * 
+     * @param offset first slot of {@code candidates} reserved for the current depth.
+     * 
+     * @returns the number of candidates written.
+     */
+    private int neighbors(int square, int offset) {
+        int size = 0;
+
+        for (int edge = offsets[square]; edge < offsets[square + 1]; edge++) {
+            int next = targets[edge];
+            if (board[next] == 0) {
+                int tieBreak;
+                if (home >= 0) {
+                    int distance = Math.abs(rowOf[next] - rowOf[home]) + Math.abs(columnOf[next] - columnOf[home]);
+                    tieBreak = 63 - Math.min(63, distance);
+                } else {
+                    tieBreak = Math.max(0, Math.min(63, ordering.tieBreak(this, rowOf[next], columnOf[next])));
+                }
+                int key = (degree[next] * 64 + tieBreak) * moves.length + rank[moveOf[edge]];
+                int i = offset + size++;
+                while (i > offset && candidates[i - 1] > key) {
+                    candidates[i] = candidates[i - 1];
+                    i--;
+                }
+                candidates[i] = key;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * decides whether the branch that just numbered the given cell can be abandoned
+     * because the unvisited cells can no longer be covered by one path. Besides
+     * {@link #orphanDetected(int, int)} it applies two exact tests:
+     * - every unvisited cell with at most one unvisited neighbour must be an end of the
+     *   remaining path, so there may be at most two of them, and at most one that is not
+     *   a knight's move from the current cell;
+     * - the unvisited cells must stay connected, which is checked by a flood fill from
+     *   the new cell's unvisited neighbours that stops as soon as they have all met.
+     * Neither test cuts a branch that holds a tour, so the first tour found is the same
+     * as without them.
+     * 
+     * @param count move number just placed on the cell.
+     * 
+     * @param square square of the cell just numbered.
+     * 
+     * @returns true if the branch holds no tour.
+     */
+    private boolean pruned(int count, int square) {
+        if (orphanDetected(count, square)) {
+            orphanPrunes++;
+            return true;
+        }
+        if (total - count <= 2) {
+            return false;
+        }
+        if (lowCells > 1) {
+            int adjacent = 0;
+            for (int edge = offsets[square]; edge < offsets[square + 1]; edge++) {
+                int next = targets[edge];
+                if (board[next] == 0 && degree[next] <= 1) {
+                    adjacent++;
+                }
+            }
+            if (lowCells > 2 || lowCells - adjacent > 1) {
+                endpointPrunes++;
+                return true;
+            }
+        }
+        if (!connectedAround(square)) {
+            splitPrunes++;
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * checks that the unvisited neighbours of a newly numbered cell can still reach one
+     * another through unvisited cells. The unvisited cells were connected before the
+     * cell was numbered, so they are still connected exactly when its neighbours are.
+     * The fill usually meets every neighbour within a few steps; only a real split makes
+     * it walk a whole component.
+     * 
+     * @param square square of the cell just numbered.
+     * 
+     * @returns true if the unvisited cells are still connected.
+     */
+    private boolean connectedAround(int square) {
+        int size = 0;
+        for (int edge = offsets[square]; edge < offsets[square + 1]; edge++) {
+            if (board[targets[edge]] == 0) {
+                around[size++] = targets[edge];
+            }
+        }
+        if (size <= 1) {
+            return true;
+        }
+
+        if (stamp >= Integer.MAX_VALUE - 2) {
+            Arrays.fill(mark, 0);
+            stamp = 0;
+        }
+        int target = ++stamp;
+        int reached = ++stamp;
+        for (int i = 1; i < size; i++) {
+            mark[around[i]] = target;
+        }
+        mark[around[0]] = reached;
+        queue[0] = around[0];
+        int missing = size - 1;
+
+        for (int head = 0, tail = 1; head < tail; head++) {
+            int from = queue[head];
+            for (int edge = offsets[from]; edge < offsets[from + 1]; edge++) {
+                int next = targets[edge];
+                if (mark[next] == reached || board[next] != 0) {
+                    continue;
+                }
+                if (mark[next] == target && --missing == 0) {
+                    return true;
+                }
+                mark[next] = reached;
+                queue[tail++] = next;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * determines whether placing the knight on the given cell leaves one of its
+     * unvisited neighbours without any way in or out. With the degree table kept up to
+     * date this is a scan of at most 8 values.
+     * 
+     * @param count move number just placed on the cell.
+     * 
+     * @param square square of the cell just numbered.
+     * 
+     * @returns true if an orphaned neighbour exists and the branch can be abandoned.
+     */
+    private boolean orphanDetected(int count, int square) {
+        if (count < total - 1) {
+            for (int edge = offsets[square]; edge < offsets[square + 1]; edge++) {
+                int next = targets[edge];
+                if (board[next] == 0 && degree[next] == 0) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,43 @@
+package com.thealgorithms.backtracking;
+
+
+/**
+ * Describes an engine that can search for an open knight's tour from a given start
+ * square and hand back the numbered board. Implementations keep their own state, so
+ * one instance serves one thread at a time and may be reused for any number of solves.
+ */
+public interface KnightsTourStrategy {
+    /**
+     * returns the number of rows of the board the strategy solves.
+     * 
+     * @returns the number of playable rows.
+     */
+    int getRows();
+
+    /**
+     * returns the number of columns of the board the strategy solves.
+     * 
+     * @returns the number of playable columns.
+     */
+    int getColumns();
+
+    /**
+     * searches for an open tour that starts on the given square, discarding the result
+     * of any previous solve.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns true if a tour visiting every square was found, false otherwise.
+     */
+    boolean solve(int row, int column);
+
+    /**
+     * copies the result of the last solve into a new array.
+     * 
+     * @returns a rows x columns array where each cell holds the move number at which
+     * the knight visited it, or 0 if it was not visited.
+     */
+    int[][] tour();
+}
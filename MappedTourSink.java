@@ -0,0 +1,189 @@
+package com.thealgorithms.backtracking;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+
+/**
+ * Writes a tour straight into a memory-mapped file as a builder produces it, so the
+ * rendered tour lives in the page cache rather than on the heap. The file is mapped
+ * in windows of 256 MB on first touch, which keeps files of many
+ * gigabytes within reach of 2 GB buffers. Two layouts are offered:
+ * - MOVE_NUMBERS: the board size as two big-endian ints followed by the move number
+ *   of every square as a big-endian int in row-major order; squares may arrive in any
+ *   order.
+ * - MOVE_CODES: the {@link TourCodec} record of the tour; squares must arrive in move
+ *   order, as {@link ConstructiveKnightsTour#walk(TourSink)} produces them.
+ * A sink is not thread-safe and should be confined to one thread.
+ */
+public class MappedTourSink implements TourSink, Closeable {
+    /**
+     * layout of the written file.
+     */
+    public enum Format {
+        /** a row-major grid of int move numbers after the board size. */
+        MOVE_NUMBERS,
+        /** the compact record of {@link TourCodec}, 3 bits per move. */
+        MOVE_CODES,
+    }
+
+    private static final int defaultWindowBits = 28; // bytes per mapping, as a power of two
+
+    private final int windowBits; // bytes per mapping of this sink, as a power of two
+    private final FileChannel channel;
+    private final Format format;
+    private final int rows;
+    private final int columns;
+    private final MappedByteBuffer[] windows;
+    private int visits; // squares taken so far
+    private int lastRow; // MOVE_CODES: square of the previous move
+    private int lastColumn;
+    private long position; // MOVE_CODES: file offset of the next packed byte
+    private int bits; // MOVE_CODES: codes not yet written, lowest first
+    private int used; // MOVE_CODES: number of bits held in bits
+
+    /**
+     * creates or truncates the given file and maps it for a rows x columns tour.
+     * 
+     * @param file path of the output file.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @param format layout of the file.
+     * 
+     * @throws IOException if the file cannot be created or sized.
+     */
+    public MappedTourSink(Path file, int rows, int columns, Format format) throws IOException {
+        this(file, rows, columns, format, defaultWindowBits);
+    }
+
+    /**
+     * creates a sink like {@link #MappedTourSink(Path, int, int, Format)} that maps the
+     * file in windows of {@code 1 << windowBits} bytes, so that tests can cross from
+     * one window to the next on a small board.
+     */
+    MappedTourSink(Path file, int rows, int columns, Format format, int windowBits) throws IOException {
+        if (rows < 1 || columns < 1 || (long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("cannot write a " + rows + "x" + columns + " board");
+        }
+        if (windowBits < 2 || windowBits > 30) {
+            throw new IllegalArgumentException("windowBits must be between 2 and 30, got " + windowBits);
+        }
+        this.windowBits = windowBits;
+        this.format = format;
+        this.rows = rows;
+        this.columns = columns;
+        long length = format == Format.MOVE_NUMBERS
+            ? 2L * Integer.BYTES + (long) rows * columns * Integer.BYTES
+            : TourCodec.encodedLength(rows, columns);
+        windows = new MappedByteBuffer[(int) ((length + (1L << windowBits) - 1) >>> windowBits)];
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ByteBuffer last = ByteBuffer.allocate(1);
+            while (channel.write(last, length - 1) == 0) {
+                continue; // sizes the file in one write
+            }
+            putInt(0, rows);
+            putInt(Integer.BYTES, columns);
+            position = TourCodec.headerBytes;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public void visit(int row, int column, int move) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("square (" + row + ", " + column + ") is off the board");
+        }
+        if (format == Format.MOVE_NUMBERS) {
+            putInt(2L * Integer.BYTES + ((long) row * columns + column) * Integer.BYTES, move);
+            visits++;
+            return;
+        }
+
+        if (move != visits + 1) {
+            throw new IllegalStateException("MOVE_CODES needs the moves in order, expected " + (visits + 1) + " but got " + move);
+        }
+        if (move == 1) {
+            putInt(2L * Integer.BYTES, row * columns + column);
+        } else {
+            bits |= TourCodec.moveIndex(row - lastRow, column - lastColumn, move - 1) << used;
+            used += 3;
+            if (used >= 8) {
+                window(position).put((int) (position & (1 << windowBits) - 1), (byte) bits);
+                position++;
+                bits >>>= 8;
+                used -= 8;
+            }
+        }
+        lastRow = row;
+        lastColumn = column;
+        visits++;
+    }
+
+    /**
+     * writes any pending bits and forces the file to the storage device. In the
+     * MOVE_CODES layout the tour must be complete by then.
+     * 
+     * @throws IOException if the file cannot be synced.
+     */
+    public void flush() throws IOException {
+        if (format == Format.MOVE_CODES && used > 0 && visits == rows * columns) {
+            window(position).put((int) (position & (1 << windowBits) - 1), (byte) bits);
+            position++;
+            used = 0;
+        }
+        for (MappedByteBuffer window : windows) {
+            if (window != null) {
+                window.force();
+            }
+        }
+    }
+
+    /**
+     * flushes the file and closes it. The mapped windows stay valid until they are
+     * garbage collected but are no longer written.
+     * 
+     * @throws IOException if the file cannot be synced or closed.
+     * 
+     * @throws IllegalStateException if fewer squares than the board holds were written.
+     */
+    @Override
+    public void close() throws IOException {
+        try {
+            flush();
+        } finally {
+            channel.close();
+        }
+        if (visits != rows * columns) {
+            throw new IllegalStateException("tour is incomplete, got " + visits + " of " + rows * columns + " squares");
+        }
+    }
+
+    private void putInt(long at, int value) {
+        window(at).putInt((int) (at & (1 << windowBits) - 1), value);
+    }
+
+    /**
+     * returns the mapping that holds the given file offset, mapping it on first use.
+     * Windows are a multiple of 4 bytes long, so an aligned int never spans two.
+     */
+    private MappedByteBuffer window(long at) {
+        int index = (int) (at >>> windowBits);
+        if (windows[index] == null) {
+            long start = (long) index << windowBits;
+            try {
+                windows[index] = channel.map(FileChannel.MapMode.READ_WRITE, start, Math.min(1L << windowBits, channel.size() - start));
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+        return windows[index];
+    }
+}
@@ -0,0 +1,114 @@
+package com.thealgorithms.backtracking;
+import java.util.*;
+
+
+/**
+ * Decides the order in which {@link KnightsTourSolver} tries cells that have the same
+ * Warnsdorff degree. The solver always prefers the cell with the fewest onward moves;
+ * among equals it prefers the smaller tie-break value and then falls back to its move
+ * order. Implementations are called once per candidate cell on the hot path, so they
+ * must not allocate.
+ */
+public interface MoveOrdering {
+    /**
+     * Gives an ordering read-only access to the board of the search it is ranking for.
+     * Coordinates are 0-based; cells off the board are never free and have degree 0.
+     */
+    interface Board {
+        int getRows();
+
+        int getColumns();
+
+        /**
+         * tells whether the knight has not visited the given cell yet.
+         * 
+         * @param row 0-based row of the cell.
+         * 
+         * @param column 0-based column of the cell.
+         * 
+         * @returns true if the cell is on the board and unvisited.
+         */
+        boolean isFree(int row, int column);
+
+        /**
+         * returns the number of unvisited cells a knight's move away from the given cell.
+         * 
+         * @param row 0-based row of the cell.
+         * 
+         * @param column 0-based column of the cell.
+         * 
+         * @returns the degree of the cell, or 0 if it is off the board.
+         */
+        int degree(int row, int column);
+    }
+
+    /**
+     * ranks a candidate cell against others of the same degree.
+     * 
+     * @param board board of the running search, with the knight's current cell visited.
+     * 
+     * @param row 0-based row of the candidate.
+     * 
+     * @param column 0-based column of the candidate.
+     * 
+     * @returns a value from 0 to 63, smaller values being tried first; values outside
+     * that range are clamped.
+     */
+    int tieBreak(Board board, int row, int column);
+
+    /**
+     * returns plain Warnsdorff ordering, which leaves ties in the solver's move order.
+     * 
+     * @returns an ordering that ranks every cell equally.
+     */
+    static MoveOrdering warnsdorff() {
+        return (board, row, column) -> 0;
+    }
+
+    /**
+     * returns Pohl's tie-break, which looks one level further ahead and prefers the cell
+     * whose unvisited neighbours have the smallest total degree.
+     * 
+     * @returns a lookahead ordering.
+     */
+    static MoveOrdering pohl() {
+        return (board, row, column) -> {
+            int sum = 0;
+            for (int[] m : KnightsGraph.moves) {
+                if (board.isFree(row + m[1], column + m[0])) {
+                    sum += board.degree(row + m[1], column + m[0]);
+                }
+            }
+            return sum;
+        };
+    }
+
+    /**
+     * returns a distance-from-centre tie-break in the spirit of Squirrel and Cull, which
+     * prefers cells near the rim so that the edges are cleared before the middle.
+     * 
+     * @returns an ordering that ranks cells farther from the centre first.
+     */
+    static MoveOrdering centerDistance() {
+        return (board, row, column) -> {
+            long dr = 2L * row - (board.getRows() - 1);
+            long dc = 2L * column - (board.getColumns() - 1);
+            long farthest = (long) (board.getRows() - 1) * (board.getRows() - 1)
+                + (long) (board.getColumns() - 1) * (board.getColumns() - 1);
+            return farthest == 0 ? 0 : (int) (63 - 63 * (dr * dr + dc * dc) / farthest);
+        };
+    }
+
+    /**
+     * returns a random tie-break. The ordering keeps its own generator, so it belongs to
+     * a single solver and thread; the same seed gives the same sequence of choices.
+     * 
+     * @param seed seed of the generator.
+     * 
+     * @returns an ordering that ranks cells of equal degree at random.
+     */
+    static MoveOrdering random(long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        return (board, row, column) -> random.nextInt(64);
+    }
+}
@@ -0,0 +1,153 @@
+package com.thealgorithms.backtracking;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+
+/**
+ * Races several {@link KnightsTourSolver} copies that differ only in how they break ties
+ * between cells of equal degree. A tie-break order that sends one copy into a
+ * heavy-tailed search usually leaves another with a quick path, so the first copy to
+ * find a tour wins and the others are cancelled through a shared flag. This trims the
+ * slow start squares without changing the typical case. The copies run on the given
+ * executor; callers on a runtime with virtual threads can pass a virtual-thread-per-task
+ * executor, and the default is a shared pool of daemon platform threads.
+ */
+public class PortfolioKnightsTour implements KnightsTourStrategy {
+    private static final ExecutorService defaultExecutor = Executors.newCachedThreadPool(task -> {
+        Thread thread = new Thread(task, "knights-tour-portfolio");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private final int rows;
+    private final int columns;
+    private final ExecutorService executor;
+    private final int[][] tieBreaks;
+    private final KnightsTourSolver[] solvers;
+    private int winner = -1;
+
+    /**
+     * creates a portfolio of 4 copies for a rows x columns board on the default executor.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     */
+    public PortfolioKnightsTour(int rows, int columns) {
+        this(rows, columns, 4, defaultExecutor);
+    }
+
+    /**
+     * creates a portfolio for a rows x columns board. The first copy keeps the default
+     * move order; every other copy uses its own shuffled order, seeded by its index so
+     * that the portfolio is the same from run to run.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @param copies number of solvers raced against each other, at least 1.
+     * 
+     * @param executor runs one task per copy for every solve.
+     */
+    public PortfolioKnightsTour(int rows, int columns, int copies, ExecutorService executor) {
+        if (copies < 1) {
+            throw new IllegalArgumentException("copies must be greater than zero");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        this.executor = executor;
+        tieBreaks = new int[copies][];
+        solvers = new KnightsTourSolver[copies];
+        for (int i = 0; i < copies; i++) {
+            List<Integer> order = new ArrayList<>(List.of(0, 1, 2, 3, 4, 5, 6, 7));
+            if (i > 0) {
+                Collections.shuffle(order, new Random(i));
+            }
+            tieBreaks[i] = order.stream().mapToInt(Integer::intValue).toArray();
+            solvers[i] = new KnightsTourSolver(rows, columns, tieBreaks[i]);
+        }
+    }
+
+    @Override
+    public int getRows() {
+        return rows;
+    }
+
+    @Override
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * starts every copy on the given square and keeps the tour of the first one to
+     * succeed. The call returns once all copies have stopped, so the portfolio can be
+     * reused right away. This holds when a copy fails or the caller is interrupted too:
+     * the others are cancelled and waited for before the call returns or throws.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @returns true if any copy found a tour, false if all of them exhausted their search
+     * or the caller was interrupted, in which case its interrupt flag is set again.
+     */
+    @Override
+    public boolean solve(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        AtomicBoolean cancelled = new AtomicBoolean();
+        CompletionService<Integer> race = new ExecutorCompletionService<>(executor);
+        for (int i = 0; i < solvers.length; i++) {
+            int copy = i;
+            race.submit(() -> solvers[copy].solveIterative(row, column, cancelled) ? copy : -1);
+        }
+
+        winner = -1;
+        boolean interrupted = false;
+        ExecutionException failure = null;
+        for (int finished = 0; finished < solvers.length;) {
+            try {
+                Future<Integer> done = race.take();
+                finished++;
+                int result = done.get();
+                if (result >= 0 && winner < 0) {
+                    winner = result;
+                    cancelled.set(true);
+                }
+            } catch (InterruptedException e) {
+                interrupted = true; // keep waiting: a copy still running writes into its solver
+                cancelled.set(true);
+            } catch (ExecutionException e) {
+                failure = failure == null ? e : failure;
+                cancelled.set(true);
+            }
+        }
+        if (interrupted) {
+            winner = -1;
+            Thread.currentThread().interrupt();
+        }
+        if (failure != null) {
+            winner = -1;
+            throw new IllegalStateException("portfolio solver failed", failure.getCause());
+        }
+        return winner >= 0;
+    }
+
+    @Override
+    public int[][] tour() {
+        return winner >= 0 ? solvers[winner].tour() : new int[rows][columns];
+    }
+
+    /**
+     * reports which copy won the last solve.
+     * 
+     * @returns the tie-break order of the winning copy, or null if the last solve found
+     * no tour.
+     */
+    public int[] winningTieBreak() {
+        return winner >= 0 ? tieBreaks[winner].clone() : null;
+    }
+}
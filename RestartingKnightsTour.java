@@ -0,0 +1,138 @@
+package com.thealgorithms.backtracking;
+import java.time.*;
+import java.util.*;
+
+
+/**
+ * Searches for an open tour with randomized tie-breaks, restarting the search with a
+ * fresh tie-break whenever a node budget runs out. The budgets follow the Luby
+ * sequence 1, 1, 2, 1, 1, 2, 4, 1, ... times a unit proportional to the board area,
+ * which keeps the expected time within a logarithmic factor of the best fixed budget
+ * without knowing it, so one unlucky tie-break cannot trap the search in a heavy tail.
+ * Every tie-break comes from a {@link SplittableRandom} seeded once per solve, so the
+ * same seed always gives the same restarts and the same tour.
+ */
+public class RestartingKnightsTour implements KnightsTourStrategy {
+    private static final int nodesPerSquare = 4; // Luby unit per board square
+
+    private final KnightsTourSolver solver;
+    private final long seed;
+    private final long unit;
+    private int restarts;
+
+    /**
+     * creates a restarting solver for a rows x columns board.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @param seed seed of the tie-breaks; the same seed gives the same tour.
+     */
+    public RestartingKnightsTour(int rows, int columns, long seed) {
+        solver = new KnightsTourSolver(rows, columns);
+        this.seed = seed;
+        unit = (long) nodesPerSquare * rows * columns;
+    }
+
+    @Override
+    public int getRows() {
+        return solver.getRows();
+    }
+
+    @Override
+    public int getColumns() {
+        return solver.getColumns();
+    }
+
+    @Override
+    public boolean solve(int row, int column) {
+        return solve(row, column, SearchLimits.none()) == SearchOutcome.SOLVED;
+    }
+
+    /**
+     * searches with restarts until a tour is found, a run proves that none exists, or
+     * the given limits run out. The node budget and timeout cover all runs together.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param limits node budget, timeout and cancel flag of the whole solve.
+     * 
+     * @returns SOLVED if a tour was found, NO_TOUR if the start square has none, or
+     * GAVE_UP if the limits ran out first.
+     */
+    public SearchOutcome solve(int row, int column, SearchLimits limits) {
+        if (row < 0 || row >= getRows() || column < 0 || column >= getColumns()) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
+        }
+        restarts = 0;
+        if (KnightsTourSolver.noOpenTour(getRows(), getColumns(), row, column)) {
+            return SearchOutcome.NO_TOUR; // no run could finish proving it
+        }
+
+        SplittableRandom random = new SplittableRandom(seed);
+        long started = System.nanoTime();
+        long nodes = 0;
+        for (long run = 0; ; run++) {
+            long nodesLeft = limits.getMaxNodes() - nodes;
+            long timeLeft = limits.getTimeoutNanos() == Long.MAX_VALUE
+                ? Long.MAX_VALUE : limits.getTimeoutNanos() - (System.nanoTime() - started);
+            if (nodesLeft <= 0 || timeLeft <= 0 || limits.getCancelled().get()) {
+                return SearchOutcome.GAVE_UP;
+            }
+
+            long budget = luby(run) > Long.MAX_VALUE / unit ? Long.MAX_VALUE : luby(run) * unit;
+            solver.setMoveOrdering(MoveOrdering.random(random.nextLong()));
+            SearchLimits runLimits = SearchLimits.none()
+                .maxNodes(Math.min(budget, nodesLeft))
+                .cancelledBy(limits.getCancelled());
+            if (timeLeft != Long.MAX_VALUE) {
+                runLimits = runLimits.timeout(Duration.ofNanos(timeLeft));
+            }
+            SearchOutcome outcome = solver.solve(row, column, runLimits);
+            nodes += solver.getNodes();
+            if (outcome != SearchOutcome.GAVE_UP) {
+                return outcome;
+            }
+            restarts++;
+        }
+    }
+
+    @Override
+    public int[][] tour() {
+        return solver.tour();
+    }
+
+    /**
+     * reports how many times the last solve abandoned a run and started over.
+     * 
+     * @returns the number of restarts of the last solve.
+     */
+    public int getRestarts() {
+        return restarts;
+    }
+
+    /**
+     * returns the given term of the Luby sequence 1, 1, 2, 1, 1, 2, 4, 1, 1, 2, ...
+     * 
+     * @param index 0-based index of the term.
+     * 
+     * @returns the term, always a power of two.
+     */
+    static long luby(long index) {
+        long size = 1;
+        int power = 0;
+        while (size < index + 1) {
+            size = 2 * size + 1;
+            power++;
+        }
+        while (size - 1 != index) {
+            size = (size - 1) / 2;
+            power--;
+            index %= size;
+        }
+        return 1L << power;
+    }
+}
@@ -0,0 +1,90 @@
+package com.thealgorithms.backtracking;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+
+/**
+ * Bounds a single {@link KnightsTourSolver} search by a number of search nodes, by
+ * wall-clock time and by a flag that another thread can raise. Instances are
+ * immutable and may be shared between threads and reused for any number of searches;
+ * the timeout is measured from the start of each search. The time and the flag are
+ * only looked at every few thousand nodes, so a search may run slightly past either.
+ */
+public final class SearchLimits {
+    private static final AtomicBoolean neverCancelled = new AtomicBoolean(); // shared flag nobody raises
+    private static final SearchLimits none = new SearchLimits(Long.MAX_VALUE, Long.MAX_VALUE, neverCancelled);
+
+    private final long maxNodes;
+    private final long timeoutNanos;
+    private final AtomicBoolean cancelled;
+
+    private SearchLimits(long maxNodes, long timeoutNanos, AtomicBoolean cancelled) {
+        this.maxNodes = maxNodes;
+        this.timeoutNanos = timeoutNanos;
+        this.cancelled = cancelled;
+    }
+
+    /**
+     * returns limits that never stop a search.
+     * 
+     * @returns the unlimited limits.
+     */
+    public static SearchLimits none() {
+        return none;
+    }
+
+    /**
+     * returns a copy of these limits that also gives up once the search has stepped
+     * onto the given number of squares.
+     * 
+     * @param maxNodes number of squares the search may step onto, at least 0.
+     * 
+     * @returns the new limits.
+     */
+    public SearchLimits maxNodes(long maxNodes) {
+        if (maxNodes < 0) {
+            throw new IllegalArgumentException("maxNodes must not be negative, got " + maxNodes);
+        }
+        return new SearchLimits(maxNodes, timeoutNanos, cancelled);
+    }
+
+    /**
+     * returns a copy of these limits that also gives up once the search has run for the
+     * given time.
+     * 
+     * @param timeout time each search may take, not negative.
+     * 
+     * @returns the new limits.
+     */
+    public SearchLimits timeout(Duration timeout) {
+        if (timeout.isNegative()) {
+            throw new IllegalArgumentException("timeout must not be negative, got " + timeout);
+        }
+        long nanos = timeout.compareTo(Duration.ofNanos(Long.MAX_VALUE)) < 0 ? timeout.toNanos() : Long.MAX_VALUE;
+        return new SearchLimits(maxNodes, nanos, cancelled);
+    }
+
+    /**
+     * returns a copy of these limits that also gives up once the given flag is raised.
+     * 
+     * @param cancelled flag another thread sets to stop the search.
+     * 
+     * @returns the new limits.
+     */
+    public SearchLimits cancelledBy(AtomicBoolean cancelled) {
+        return new SearchLimits(maxNodes, timeoutNanos, Objects.requireNonNull(cancelled, "cancelled"));
+    }
+
+    public long getMaxNodes() {
+        return maxNodes;
+    }
+
+    public long getTimeoutNanos() {
+        return timeoutNanos;
+    }
+
+    public AtomicBoolean getCancelled() {
+        return cancelled;
+    }
+}
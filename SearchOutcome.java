@@ -0,0 +1,16 @@
+package com.thealgorithms.backtracking;
+
+
+/**
+ * Tells how a limited knight's tour search ended, so that a caller can tell a board
+ * that has no tour from one that merely took too long and fall back to another
+ * strategy in the second case.
+ */
+public enum SearchOutcome {
+    /** a tour was found and can be read with {@link KnightsTourStrategy#tour()}. */
+    SOLVED,
+    /** the whole search tree was exhausted, so no tour exists from the start square. */
+    NO_TOUR,
+    /** the node budget or timeout ran out, or the search was cancelled, before either. */
+    GAVE_UP,
+}
@@ -0,0 +1,280 @@
+package com.thealgorithms.backtracking;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+
+/**
+ * Board state for very large tours, split into a visited bitset and an array of move
+ * numbers. Squares are numbered row * columns + column, and a 10,000 x 10,000 board
+ * takes 12.5 MB of bits plus 4 bytes per square, with no per-row objects. Boards of
+ * up to {@code heapSquares} squares keep their move numbers in an int array; larger
+ * ones keep them off the heap in direct buffers of at most 512 MB each, so that
+ * building a huge tour neither fills the heap nor slows down garbage collection. The
+ * direct memory counts against -XX:MaxDirectMemorySize, which defaults to the maximum
+ * heap size, so a 10,000 x 10,000 board needs 400 MB of it: under -Xmx200m the JVM
+ * must also be given -XX:MaxDirectMemorySize=512m or more. When the reservation fails
+ * anyway, {@link #allocate(int, int)} maps a temporary file instead, which the page
+ * cache holds in memory as far as it can. Either kind of memory is given back once
+ * the board is garbage collected. A board is not thread-safe and should be confined
+ * to one thread.
+ */
+public abstract class TourBoard implements TourSink {
+    private static final int heapSquares = 1 << 22; // 16 MB of move numbers
+    private static final int chunkBits = 27; // squares per direct buffer or mapping, as a power of two
+
+    private final int rows;
+    private final int columns;
+    private final long[] visited; // one bit per square
+
+    private TourBoard(int rows, int columns) {
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException("board must be at least 1x1, got " + rows + "x" + columns);
+        }
+        if ((long) rows * columns > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("board " + rows + "x" + columns + " is too large");
+        }
+        this.rows = rows;
+        this.columns = columns;
+        visited = new long[(rows * columns + 63) >>> 6];
+    }
+
+    /**
+     * allocates an empty board, on the heap if it is small and off the heap otherwise.
+     * Off the heap, the board takes 4 bytes of direct memory per square, within
+     * -XX:MaxDirectMemorySize; if that much cannot be reserved, the board maps a
+     * temporary file instead.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @returns a board with no square visited.
+     * 
+     * @throws UncheckedIOException if the temporary file cannot be created or mapped.
+     */
+    public static TourBoard allocate(int rows, int columns) {
+        if ((long) rows * columns <= heapSquares) {
+            return onHeap(rows, columns);
+        }
+        try {
+            return offHeap(rows, columns);
+        } catch (OutOfMemoryError e) {
+            return mapped(rows, columns); // direct memory is capped by -XX:MaxDirectMemorySize, not by what is free
+        }
+    }
+
+    /**
+     * allocates an empty board that keeps its move numbers in an int array.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @returns a board with no square visited.
+     */
+    public static TourBoard onHeap(int rows, int columns) {
+        return new HeapBoard(rows, columns);
+    }
+
+    /**
+     * allocates an empty board that keeps its move numbers in direct buffers.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @returns a board with no square visited.
+     */
+    public static TourBoard offHeap(int rows, int columns) {
+        return offHeap(rows, columns, chunkBits);
+    }
+
+    /**
+     * allocates an empty board that keeps its move numbers in a temporary file mapped
+     * into memory. The file is deleted as soon as it is mapped where the platform
+     * allows it, and otherwise when the JVM exits.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @returns a board with no square visited.
+     * 
+     * @throws UncheckedIOException if the file cannot be created or mapped.
+     */
+    public static TourBoard mapped(int rows, int columns) {
+        return mapped(rows, columns, chunkBits);
+    }
+
+    /**
+     * allocates a board like {@link #offHeap(int, int)} with buffers of the given size,
+     * so that tests can cross from one buffer to the next on a small board.
+     */
+    static TourBoard offHeap(int rows, int columns, int bits) {
+        return new DirectBoard(rows, columns, bits, null);
+    }
+
+    /**
+     * allocates a board like {@link #mapped(int, int)} with mappings of the given size,
+     * so that tests can cross from one mapping to the next on a small board.
+     */
+    static TourBoard mapped(int rows, int columns, int bits) {
+        Path file = null;
+        try {
+            file = Files.createTempFile("tour-board", ".bin");
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+                return new DirectBoard(rows, columns, bits, channel);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            if (file != null) {
+                try {
+                    Files.deleteIfExists(file); // the mappings outlive the file on POSIX systems
+                } catch (IOException e) {
+                    file.toFile().deleteOnExit();
+                }
+            }
+        }
+    }
+
+    public int getRows() {
+        return rows;
+    }
+
+    public int getColumns() {
+        return columns;
+    }
+
+    /**
+     * tells whether the knight has visited the given square.
+     * 
+     * @param row 0-based row of the square.
+     * 
+     * @param column 0-based column of the square.
+     * 
+     * @returns true if the square has a move number.
+     */
+    public boolean isVisited(int row, int column) {
+        int square = square(row, column);
+        return (visited[square >>> 6] & 1L << square) != 0;
+    }
+
+    /**
+     * returns the move number of the given square.
+     * 
+     * @param row 0-based row of the square.
+     * 
+     * @param column 0-based column of the square.
+     * 
+     * @returns the move number, or 0 if the square has not been visited.
+     */
+    public int move(int row, int column) {
+        int square = square(row, column);
+        return (visited[square >>> 6] & 1L << square) != 0 ? get(square) : 0;
+    }
+
+    /**
+     * marks the given square as visited with the given move number.
+     * 
+     * @param row 0-based row of the square.
+     * 
+     * @param column 0-based column of the square.
+     * 
+     * @param move move number of the square, at least 1.
+     */
+    @Override
+    public void visit(int row, int column, int move) {
+        int square = square(row, column);
+        if ((visited[square >>> 6] & 1L << square) != 0) {
+            throw new IllegalStateException("square (" + row + ", " + column + ") was already visited");
+        }
+        visited[square >>> 6] |= 1L << square;
+        set(square, move);
+    }
+
+    /**
+     * copies the board into the grid layout of {@link KnightsTourSolver#tour()}.
+     * 
+     * @returns a rows x columns array of move numbers, 0 where the knight has not been.
+     */
+    public int[][] toGrid() {
+        int[][] grid = new int[rows][columns];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                grid[r][c] = move(r, c);
+            }
+        }
+        return grid;
+    }
+
+    abstract int get(int square);
+
+    abstract void set(int square, int move);
+
+    private int square(int row, int column) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IndexOutOfBoundsException("square (" + row + ", " + column + ") is off the board");
+        }
+        return row * columns + column;
+    }
+
+    private static final class HeapBoard extends TourBoard {
+        private final int[] moves;
+
+        HeapBoard(int rows, int columns) {
+            super(rows, columns);
+            moves = new int[rows * columns];
+        }
+
+        @Override
+        int get(int square) {
+            return moves[square];
+        }
+
+        @Override
+        void set(int square, int move) {
+            moves[square] = move;
+        }
+    }
+
+    /**
+     * keeps the move numbers in direct buffers, or in mappings of a file when given
+     * one, of {@code 1 << bits} squares each.
+     */
+    private static final class DirectBoard extends TourBoard {
+        private final int bits; // squares per chunk, as a power of two
+        private final IntBuffer[] chunks;
+
+        DirectBoard(int rows, int columns, int bits, FileChannel file) {
+            super(rows, columns);
+            this.bits = bits;
+            int total = rows * columns;
+            chunks = new IntBuffer[(int) (((long) total + (1 << bits) - 1) >>> bits)];
+            for (int i = 0; i < chunks.length; i++) {
+                int size = Math.min(1 << bits, total - (i << bits));
+                ByteBuffer bytes;
+                try {
+                    bytes = file == null
+                        ? ByteBuffer.allocateDirect(size * Integer.BYTES)
+                        : file.map(FileChannel.MapMode.READ_WRITE, ((long) i << bits) * Integer.BYTES, (long) size * Integer.BYTES);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                chunks[i] = bytes.order(ByteOrder.nativeOrder()).asIntBuffer();
+            }
+        }
+
+        @Override
+        int get(int square) {
+            return chunks[square >>> bits].get(square & (1 << bits) - 1);
+        }
+
+        @Override
+        void set(int square, int move) {
+            chunks[square >>> bits].put(square & (1 << bits) - 1, move);
+        }
+    }
+}
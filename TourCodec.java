@@ -0,0 +1,159 @@
+package com.thealgorithms.backtracking;
+import java.nio.*;
+import java.util.*;
+
+
+/**
+ * Packs a tour into a compact binary record and back. A record holds the board size
+ * and the start square as three big-endian ints, followed by one 3-bit index into the
+ * knight's moves for every step of the tour, packed from the lowest bit of each byte
+ * up. An 8x8 tour takes 36 bytes instead of the 256 of its move numbers.
+ */
+public final class TourCodec {
+    private static final int[][] moves = KnightsGraph.moves; // Possible moves by knight on chess; records hold indices into it
+    static final int headerBytes = 3 * Integer.BYTES; // rows, columns, start square
+
+    private TourCodec() {
+    }
+
+    /**
+     * returns the size of the record of any tour on a rows x columns board.
+     * 
+     * @param rows number of rows, at least 1.
+     * 
+     * @param columns number of columns, at least 1.
+     * 
+     * @returns the record size in bytes.
+     */
+    public static int encodedLength(int rows, int columns) {
+        long steps = (long) rows * columns - 1;
+        long length = headerBytes + (steps * 3 + 7) / 8;
+        if (rows < 1 || columns < 1 || length > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("cannot encode a " + rows + "x" + columns + " board");
+        }
+        return (int) length;
+    }
+
+    /**
+     * encodes a tour given as a grid of move numbers.
+     * 
+     * @param tour rows x columns array numbering every square from 1 to rows * columns
+     * along a knight's path.
+     * 
+     * @returns the record of the tour.
+     */
+    public static byte[] encode(int[][] tour) {
+        int rows = tour.length;
+        int columns = rows > 0 ? tour[0].length : 0;
+        ByteBuffer buffer = ByteBuffer.allocate(encodedLength(rows, columns));
+        encode(tour, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * encodes a tour into the given buffer at its position, advancing the position past
+     * the record.
+     * 
+     * @param tour rows x columns array numbering every square from 1 to rows * columns
+     * along a knight's path.
+     * 
+     * @param buffer buffer with at least {@link #encodedLength(int, int)} bytes remaining.
+     */
+    public static void encode(int[][] tour, ByteBuffer buffer) {
+        int rows = tour.length;
+        int columns = rows > 0 ? tour[0].length : 0;
+        int total = rows * columns;
+        int length = encodedLength(rows, columns);
+        int[] square = new int[total + 1]; // move number -> row * columns + column, -1 until seen
+        Arrays.fill(square, -1);
+        for (int r = 0; r < rows; r++) {
+            if (tour[r].length != columns) {
+                throw new IllegalArgumentException("tour is not rectangular");
+            }
+            for (int c = 0; c < columns; c++) {
+                int move = tour[r][c];
+                if (move < 1 || move > total || square[move] >= 0) {
+                    throw new IllegalArgumentException("tour must number every square once, got " + move + " at (" + r + ", " + c + ")");
+                }
+                square[move] = r * columns + c;
+            }
+        }
+
+        int start = buffer.position();
+        buffer.putInt(rows).putInt(columns).putInt(square[1]);
+        long bits = 0;
+        int used = 0;
+        for (int move = 1; move < total; move++) {
+            int dr = square[move + 1] / columns - square[move] / columns;
+            int dc = square[move + 1] % columns - square[move] % columns;
+            bits |= (long) moveIndex(dr, dc, move) << used;
+            used += 3;
+            if (used >= 8) {
+                buffer.put((byte) bits);
+                bits >>>= 8;
+                used -= 8;
+            }
+        }
+        if (used > 0) {
+            buffer.put((byte) bits);
+        }
+        assert buffer.position() - start == length;
+    }
+
+    /**
+     * decodes the record at the buffer's position without moving it, so records can be
+     * read straight out of a mapped file.
+     * 
+     * @param buffer buffer holding a record written by {@link #encode(int[][], ByteBuffer)}.
+     * 
+     * @returns the tour as a rows x columns array of move numbers.
+     */
+    public static int[][] decode(ByteBuffer buffer) {
+        int at = buffer.position();
+        int rows = buffer.getInt(at);
+        int columns = buffer.getInt(at + Integer.BYTES);
+        int start = buffer.getInt(at + 2 * Integer.BYTES);
+        int total = rows * columns;
+        if (buffer.remaining() < encodedLength(rows, columns) || start < 0 || start >= total) {
+            throw new IllegalArgumentException("corrupt tour record at " + at);
+        }
+
+        int[][] tour = new int[rows][columns];
+        int r = start / columns;
+        int c = start % columns;
+        tour[r][c] = 1;
+        at += headerBytes;
+        int bits = 0;
+        int used = 0;
+        for (int move = 2; move <= total; move++) {
+            if (used < 3) {
+                bits |= (buffer.get(at++) & 0xff) << used;
+                used += 8;
+            }
+            int[] m = moves[bits & 7];
+            bits >>>= 3;
+            used -= 3;
+            r += m[1];
+            c += m[0];
+            if (r < 0 || r >= rows || c < 0 || c >= columns || tour[r][c] != 0) {
+                throw new IllegalArgumentException("corrupt tour record: move " + move + " leaves the board or revisits a square");
+            }
+            tour[r][c] = move;
+        }
+        return tour;
+    }
+
+    /**
+     * finds the knight's move with the given row and column offsets.
+     * 
+     * @returns its index into {@code moves}.
+     */
+    static int moveIndex(int dr, int dc, int move) {
+        for (int k = 0; k < moves.length; k++) {
+            if (moves[k][1] == dr && moves[k][0] == dc) {
+                return k;
+            }
+        }
+        throw new IllegalArgumentException("moves " + move + " and " + (move + 1) + " are not a knight's move apart");
+    }
+}
@@ -0,0 +1,21 @@
+package com.thealgorithms.backtracking;
+
+
+/**
+ * Receives the squares of a tour one at a time as a builder produces them, so that a
+ * tour can be stored or written out without first being held in memory as a grid.
+ * Builders that produce a tour in order, such as {@link ConstructiveKnightsTour},
+ * call it with move numbers 1, 2, 3 and so on.
+ */
+public interface TourSink {
+    /**
+     * takes one square of the tour.
+     * 
+     * @param row 0-based row of the square.
+     * 
+     * @param column 0-based column of the square.
+     * 
+     * @param move move number at which the knight visits the square.
+     */
+    void visit(int row, int column, int move);
+}
@@ -0,0 +1,156 @@
+package com.thealgorithms.backtracking;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+import java.nio.file.*;
+
+
+/**
+ * Append-only file of tours in the {@link TourCodec} format with a fixed-size index,
+ * so that any stored tour can be found by its number without scanning the file. The
+ * file starts with a header and an index of {@code capacity} slots, each holding the
+ * offset of one record; records follow in the order they were appended. Reads go
+ * through a read-only mapping of the file, so loading a tour decodes it straight from
+ * the page cache without copying the record first. A store is not thread-safe and
+ * should be confined to one thread; the file is limited to 2 GB.
+ */
+public class TourStore implements Closeable {
+    private static final int magic = 0x4b545331; // "KTS1"
+    private static final int headerBytes = 3 * Integer.BYTES; // magic, capacity, count
+    private static final int slotBytes = Long.BYTES; // offset of one record
+
+    private final FileChannel channel;
+    private final int capacity;
+    private int count;
+    private long end; // offset one past the last record
+    private MappedByteBuffer mapped; // read-only view of the file, remapped once it grows
+
+    /**
+     * opens the store in the given file, creating it with room for the given number of
+     * tours if it does not exist yet.
+     * 
+     * @param file path of the store.
+     * 
+     * @param capacity number of index slots of a new store; ignored for an existing one.
+     * 
+     * @throws IOException if the file cannot be opened or is not a tour store.
+     */
+    public TourStore(Path file, int capacity) throws IOException {
+        channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            if (channel.size() == 0) {
+                if (capacity < 1 || indexEnd(capacity) > Integer.MAX_VALUE) {
+                    throw new IllegalArgumentException("capacity must be between 1 and " + ((Integer.MAX_VALUE - headerBytes) / slotBytes) + ", got " + capacity);
+                }
+                ByteBuffer header = ByteBuffer.allocate(headerBytes).putInt(magic).putInt(capacity).putInt(0);
+                header.flip();
+                writeFully(header, 0);
+                writeFully(ByteBuffer.allocate(1), indexEnd(capacity) - 1); // reserves the index
+            }
+            ByteBuffer header = ByteBuffer.allocate(headerBytes);
+            while (header.hasRemaining() && channel.read(header, header.position()) >= 0) {
+                continue;
+            }
+            header.flip();
+            if (header.remaining() < headerBytes || header.getInt(0) != magic) {
+                throw new IOException(file + " is not a tour store");
+            }
+            this.capacity = header.getInt(Integer.BYTES);
+            count = header.getInt(2 * Integer.BYTES);
+            end = Math.max(channel.size(), indexEnd(this.capacity));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * returns the number of tours stored so far.
+     * 
+     * @returns the tour count.
+     */
+    public int size() {
+        return count;
+    }
+
+    /**
+     * returns the number of tours the index has room for.
+     * 
+     * @returns the capacity chosen when the store was created.
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * appends a tour to the end of the file and records it in the next index slot. The
+     * record is written before the count is raised, so a crash in between loses the
+     * tour but leaves the store readable.
+     * 
+     * @param tour rows x columns array of move numbers.
+     * 
+     * @returns the number of the stored tour, counting from 0.
+     * 
+     * @throws IOException if the file cannot be written.
+     */
+    public int append(int[][] tour) throws IOException {
+        if (count == capacity) {
+            throw new IllegalStateException("tour store is full at " + capacity + " tours");
+        }
+        byte[] record = TourCodec.encode(tour);
+        if (end + record.length > Integer.MAX_VALUE) {
+            throw new IllegalStateException("tour store would grow past 2 GB");
+        }
+        writeFully(ByteBuffer.wrap(record), end);
+        writeFully(ByteBuffer.allocate(slotBytes).putLong(0, end), headerBytes + (long) count * slotBytes);
+        end += record.length;
+        count++;
+        writeFully(ByteBuffer.allocate(Integer.BYTES).putInt(0, count), 2 * Integer.BYTES);
+        return count - 1;
+    }
+
+    /**
+     * reads the given tour back through the file mapping.
+     * 
+     * @param index number of the tour, from 0 to {@link #size()} - 1.
+     * 
+     * @returns the tour as a rows x columns array of move numbers.
+     * 
+     * @throws IOException if the file cannot be mapped.
+     */
+    public int[][] get(int index) throws IOException {
+        if (index < 0 || index >= count) {
+            throw new IndexOutOfBoundsException("tour " + index + " is not in a store of " + count);
+        }
+        if (mapped == null || mapped.capacity() < end) {
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+        }
+        long offset = mapped.getLong(headerBytes + index * slotBytes);
+        return TourCodec.decode(mapped.duplicate().position((int) offset));
+    }
+
+    /**
+     * forces every appended tour to the storage device.
+     * 
+     * @throws IOException if the file cannot be synced.
+     */
+    public void flush() throws IOException {
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        mapped = null;
+        channel.close();
+    }
+
+    private static long indexEnd(int capacity) {
+        return headerBytes + (long) capacity * slotBytes;
+    }
+
+    private void writeFully(ByteBuffer buffer, long position) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer, position);
+        }
+    }
+}
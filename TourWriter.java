@@ -0,0 +1,150 @@
+package com.thealgorithms.backtracking;
+import java.io.*;
+import java.nio.*;
+import java.nio.channels.*;
+
+
+/**
+ * Writes boards of move numbers to a channel as aligned text, CSV or the binary
+ * {@link TourCodec} record. Numbers are turned into ASCII digits by hand into a
+ * reusable buffer and the buffer is written whenever it fills up, so a board costs a
+ * handful of channel writes rather than a formatted print per square; a board that
+ * fits in the buffer is written in one go. A writer is not thread-safe and should be
+ * confined to one thread.
+ */
+public class TourWriter {
+    /**
+     * layout of the written board.
+     */
+    public enum Format {
+        /** one line per row, every number right-aligned and followed by a space. */
+        TEXT,
+        /** one line per row, numbers separated by commas. */
+        CSV,
+        /** the compact record of {@link TourCodec}, which only accepts complete tours. */
+        BINARY,
+    }
+
+    private final Format format;
+    private final ByteBuffer buffer;
+
+    /**
+     * creates a writer with a 1 MB buffer.
+     * 
+     * @param format layout of the written boards.
+     */
+    public TourWriter(Format format) {
+        this(format, 1 << 20);
+    }
+
+    /**
+     * creates a writer.
+     * 
+     * @param format layout of the written boards.
+     * 
+     * @param bufferSize bytes formatted before each channel write, at least 32.
+     */
+    public TourWriter(Format format, int bufferSize) {
+        if (bufferSize < 32) {
+            throw new IllegalArgumentException("bufferSize must be at least 32, got " + bufferSize);
+        }
+        this.format = format;
+        buffer = ByteBuffer.allocate(bufferSize);
+    }
+
+    /**
+     * writes a board to the given channel. Text pads every number to the width of the
+     * largest move number, but to at least 2 characters.
+     * 
+     * @param grid rows x columns array of move numbers.
+     * 
+     * @param out channel the board is written to; it is not closed.
+     * 
+     * @throws IOException if the channel cannot be written.
+     */
+    public void write(int[][] grid, WritableByteChannel out) throws IOException {
+        if (format == Format.BINARY) {
+            ByteBuffer record = ByteBuffer.wrap(TourCodec.encode(grid));
+            while (record.hasRemaining()) {
+                out.write(record);
+            }
+            return;
+        }
+
+        int width = 2;
+        for (int[] row : grid) {
+            for (int move : row) {
+                width = Math.max(width, digits(move));
+            }
+        }
+        buffer.clear();
+        for (int[] row : grid) {
+            for (int c = 0; c < row.length; c++) {
+                if (buffer.remaining() < 13) { // sign, 10 digits and a separator
+                    drain(out);
+                }
+                if (format == Format.TEXT) {
+                    for (int pad = digits(row[c]); pad < width; pad++) {
+                        buffer.put((byte) ' ');
+                    }
+                    putInt(row[c]);
+                    buffer.put((byte) ' ');
+                } else {
+                    if (c > 0) {
+                        buffer.put((byte) ',');
+                    }
+                    putInt(row[c]);
+                }
+            }
+            if (!buffer.hasRemaining()) {
+                drain(out);
+            }
+            buffer.put((byte) '\n');
+        }
+        drain(out);
+    }
+
+    /**
+     * writes the buffered bytes to the channel and empties the buffer.
+     */
+    private void drain(WritableByteChannel out) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            out.write(buffer);
+        }
+        buffer.clear();
+    }
+
+    /**
+     * appends the decimal digits of a number to the buffer, writing them backwards from
+     * the position the number ends at.
+     * 
+     * @param value number to append.
+     */
+    private void putInt(int value) {
+        int length = digits(value);
+        int end = buffer.position() + length;
+        long rest = Math.abs((long) value);
+        for (int i = end - 1; i >= end - length + (value < 0 ? 1 : 0); i--) {
+            buffer.put(i, (byte) ('0' + rest % 10));
+            rest /= 10;
+        }
+        if (value < 0) {
+            buffer.put(end - length, (byte) '-');
+        }
+        buffer.position(end);
+    }
+
+    /**
+     * counts the characters of a number in decimal, including its minus sign.
+     * 
+     * @returns the length of the number when printed.
+     */
+    private static int digits(int value) {
+        int length = value < 0 ? 2 : 1;
+        for (long rest = Math.abs((long) value) / 10; rest > 0; rest /= 10) {
+            length++;
+        }
+        return length;
+    }
+}
@@ -0,0 +1,168 @@
+package com.thealgorithms.backtracking;
+import java.time.*;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.*;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.profile.*;
+import org.openjdk.jmh.runner.*;
+import org.openjdk.jmh.runner.options.*;
+
+
+/**
+ * JMH benchmarks for the time to the first tour of every tour engine on square boards
+ * from 6x6 to 128x128, started from a corner, the middle of an edge, the centre or a
+ * seeded random square. These are the numbers {@link KnightsTour} takes its thresholds
+ * from. Each benchmark reuses one engine per trial, so the numbers cover the search
+ * alone and the GC profiler run by {@link #main(String[])} shows whether a change makes
+ * the search allocate. The searching engines run with a node budget and a one-second
+ * timeout, so that a change that sends a case into a heavy tail shows up as a failure
+ * instead of a benchmark that never ends. The two that take no limits are the
+ * recursive search, which only runs up to 64x64 where every start benchmarked takes
+ * milliseconds and the call stack is deep enough, and the bitboard search. An engine
+ * that cannot serve a combination, such as the bitboard search off 8x8, the recursive
+ * search above 64x64 or the block construction away from a corner, fails its setup
+ * and is left out of the results.
+ * The class lives outside the main sources so that they build with plain javac. To
+ * run it, compile it together with them against jmh-core and with
+ * jmh-generator-annprocess as an annotation processor, then run this class's main
+ * with the same classpath; options such as {@code -p engine=greedy,backtracking}
+ * can be passed to JMH's own Main instead to pick combinations.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Thread)
+public class KnightsTourBenchmark {
+    private static final long seed = 42; // seed of the random start square, fixed so that runs compare
+    private static final long nodesPerSquare = 1000; // budget far above what any case needs today
+    private static final int maxRecursiveSize = 64; // largest board the unbounded recursive search is run on
+    private static final Duration timeout = Duration.ofSeconds(1); // per search, since a node can cost a flood fill of the board
+
+    @Param({"backtracking", "recursive", "greedy", "bitboard", "constructive", "closed", "restarting", "frontdoor"})
+    public String engine;
+
+    @Param({"6", "8", "10", "16", "32", "64", "128"})
+    public int size;
+
+    @Param({"corner", "edge", "center", "random"})
+    public String start;
+
+    private Supplier<SearchOutcome> search;
+    private int row;
+    private int column;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        switch (start) {
+            case "corner":
+                row = 0;
+                column = 0;
+                break;
+            case "edge":
+                row = 0;
+                column = size / 2;
+                break;
+            case "center":
+                row = size / 2;
+                column = size / 2;
+                break;
+            case "random":
+                SplittableRandom random = new SplittableRandom(seed);
+                row = random.nextInt(size);
+                column = random.nextInt(size);
+                break;
+            default:
+                throw new IllegalArgumentException("unknown start " + start);
+        }
+
+        SearchLimits limits = SearchLimits.none().maxNodes(nodesPerSquare * size * size).timeout(timeout);
+        switch (engine) {
+            case "backtracking": {
+                KnightsTourSolver solver = new KnightsTourSolver(size, size);
+                search = () -> solver.solve(row, column, limits);
+                break;
+            }
+            case "recursive": {
+                if (size > maxRecursiveSize) {
+                    throw new IllegalStateException("the recursive search takes no limits and overflows the stack above " + maxRecursiveSize
+                        + "x" + maxRecursiveSize);
+                }
+                KnightsTourSolver solver = new KnightsTourSolver(size, size);
+                search = () -> solver.solveRecursive(row, column) ? SearchOutcome.SOLVED : SearchOutcome.NO_TOUR;
+                break;
+            }
+            case "greedy": {
+                KnightsTourSolver solver = new KnightsTourSolver(size, size);
+                solver.setMoveOrdering(MoveOrdering.centerDistance());
+                search = () -> solver.solveGreedy(row, column, limits);
+                break;
+            }
+            case "bitboard": {
+                if (size != 8) {
+                    throw new IllegalStateException("the bitboard search only solves 8x8");
+                }
+                BitboardKnightsTour bitboard = new BitboardKnightsTour();
+                search = () -> bitboard.solve(row, column) ? SearchOutcome.SOLVED : SearchOutcome.NO_TOUR;
+                break;
+            }
+            case "constructive": {
+                if (!start.equals("corner")) {
+                    throw new IllegalStateException("the block construction only starts from a corner");
+                }
+                search = () -> new ConstructiveKnightsTour(size, size).tour()[0][0] == 1 ? SearchOutcome.SOLVED : SearchOutcome.NO_TOUR;
+                break;
+            }
+            case "closed": {
+                ClosedKnightsTour closed = new ClosedKnightsTour(size, size);
+                if (!closed.solve(row, column)) {
+                    throw new IllegalStateException(size + "x" + size + " has no closed tour within its budget");
+                }
+                search = () -> closed.solve(row, column) ? SearchOutcome.SOLVED : SearchOutcome.NO_TOUR;
+                break;
+            }
+            case "restarting": {
+                RestartingKnightsTour restarting = new RestartingKnightsTour(size, size, seed);
+                search = () -> restarting.solve(row, column, limits);
+                break;
+            }
+            case "frontdoor": {
+                KnightsTour frontDoor = new KnightsTour(size, size);
+                search = () -> frontDoor.solve(row, column, limits);
+                break;
+            }
+            default:
+                throw new IllegalArgumentException("unknown engine " + engine);
+        }
+    }
+
+    /**
+     * searches for the first tour from the start square with the selected engine.
+     * 
+     * @returns how the search ended, so that JMH keeps the search alive.
+     */
+    @Benchmark
+    public SearchOutcome firstTour() {
+        SearchOutcome outcome = search.get();
+        if (outcome != SearchOutcome.SOLVED) {
+            throw new IllegalStateException(engine + " on " + size + "x" + size + " from (" + row + ", " + column + ") ended " + outcome);
+        }
+        return outcome;
+    }
+
+    /**
+     * runs every benchmark of this class with the GC profiler, which reports the
+     * allocation rate next to the time per search.
+     * 
+     * @param args unused.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options options = new OptionsBuilder()
+            .include(KnightsTourBenchmark.class.getSimpleName())
+            .addProfiler(GCProfiler.class)
+            .build();
+        new Runner(options).run();
+    }
+}
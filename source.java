@@ -1,217 +1,320 @@
 package com.thealgorithms.backtracking;
+import java.io.*;
+import java.nio.channels.*;
+import java.time.*;
 import java.util.*;
 
 
 /**
  * Is designed to solve a chess-like puzzle by recursively filling a grid with numbers
- * from 1 to total without breaking any constraints. The class uses a knight's moves
- * to traverse the grid and checks for orphaned cells, returning true if the puzzle
- * has been solved or false otherwise.
+ * from 1 to total without breaking any constraints. This class is the front door to
+ * the tour engines: it picks the fastest one for the board size, start square and
+ * kind of tour, and {@link #getEngine()} reports which one answered the last request.
+ * The thresholds come from the time to the first tour measured by the JMH
+ * {@code KnightsTourBenchmark} on square boards from 6x6 to 128x128:
+ * - on a board of odd area the start must lie on the majority colour, and on a board
+ *   four squares wide it must lie on one of the two outer lines, since their squares
+ *   only lead to the inner ones; the other squares are answered NO_TOUR without
+ *   searching, where the search would spend its whole budget on them;
+ * - a cached closed tour is rotated onto the start in about 0.2 us on 8x8, and closed
+ *   requests always go through {@link ClosedKnightsTour};
+ * - {@link BitboardKnightsTour}, a backtracking search over a 64-bit board, takes about
+ *   2.5 us per 8x8 start, against 5 us for the greedy walk and 20 to 40 us for the
+ *   backtracking search of {@link KnightsTourSolver};
+ * - {@link ConstructiveKnightsTour} builds a tour from a corner in about 11 us on
+ *   32x32 and 90 us on 128x128, against 140 to 240 us and 2.5 to 3 ms for the walk;
+ * - the greedy walk of {@link KnightsTourSolver#solveGreedy(int, int, SearchLimits)}
+ *   with centre-distance ties answers every other start, taking 2.5 us on 6x6 against
+ *   15 to 25 us for {@link RestartingKnightsTour}, and 0.6 ms on 64x64 against 4.5 to
+ *   13 ms for backtracking;
+ * - the walk gets stuck from some starts, such as 88 of the 1000 of 10x100, 59 of
+ *   the 960 of 12x80 and 41 of the 4554 of 66x69. The solver's backtracking search
+ *   then gets {@code fallbackNodesPerSquare} nodes per square: on those boards it
+ *   never needed more than twice the board area to finish a stuck walk, yet left
+ *   alone it fails on about one stuck start in four, 31 of the 88 on 10x100, even
+ *   after 2 s. {@link RestartingKnightsTour} takes over once the budget is spent, and
+ *   finished every stuck start of 10x100, 11x70, 12x80, 14x90, 40x40 and 66x69 in
+ *   at most 1 s, mostly well under 0.2 s.
+ * Very large boards can still defeat all three from some starts, such as the centre
+ * of 1000x1000; those give up when the limits run out.
+ * Engines are created on first use and kept for later requests, so an instance is not
+ * thread-safe and should be confined to one thread.
  */
-public class KnightsTour {
+public class KnightsTour implements KnightsTourStrategy {
+    private static final int fallbackNodesPerSquare = 2; // backtracking budget after a stuck walk, per square
+    private static final int constructiveSide = 6; // shortest side ConstructiveKnightsTour accepts
+    private static final long seed = 0; // seed of the restarting search, fixed so that answers repeat
+    private static final SearchLimits defaultLimits = SearchLimits.none().timeout(Duration.ofSeconds(10)); // limits of solve(int, int)
+
     /**
-     * Calculates the number of elements in a collection. It iterates through each node,
-     * increments a counter for each non-null element, and returns the total count. The
-     * iteration continues until it reaches the end of the list or encounters an integer
-     * overflow.
-     * 
-     * @returns an integer representing the number of non-null elements in the collection.
-     * 
-     * The output is an integer value representing the number of elements in the collection.
-     * It is bounded by Integer.MAX_VALUE, meaning that if the actual size exceeds this
-     * limit, the returned value will be equal to Integer.MAX_VALUE.
+     * engine that answered a request.
      */
-    public int size() {
-        restartFromHead: for (;;) {
-            int count = 0;
-            for (Node<E> p = first(); p != null;) {
-                if (p.item != null)
-                    if (++count == Integer.MAX_VALUE)
-                        break;  // @see Collection.size()
-                if (p == (p = p.next))
-                    continue restartFromHead;
-            }
-            return count;
-        }
+    public enum Engine {
+        /** no engine: the colouring of the board shows that the start has no tour. */
+        COLOUR_CHECK,
+        /** the single-long backtracking search of {@link BitboardKnightsTour}, for 8x8 boards. */
+        BITBOARD,
+        /** the Luby-restarted search of {@link RestartingKnightsTour}, after the greedy walk and its backtracking. */
+        RESTARTING,
+        /** the greedy walk of {@link KnightsTourSolver}, with a short backtracking search if it gets stuck. */
+        GREEDY,
+        /** the block construction of {@link ConstructiveKnightsTour}, for corner starts. */
+        CONSTRUCTIVE,
+        /** a cached closed tour from {@link ClosedKnightsTour}, rotated onto the start. */
+        CLOSED_ROTATION,
     }
-    
-    private static final int base = 12;
-    private static final int[][] moves = {
-        {1, -2},
-        {2, -1},
-        {2, 1},
-        {1, 2},
-        {-1, 2},
-        {-2, 1},
-        {-2, -1},
-        {-1, -2},
-    }; // Possible moves by knight on chess
-    
-    private static int[][] grid; // chess grid
-    private static int total; // total squares in chess
+
+    private final int rows;
+    private final int columns;
+    private BitboardKnightsTour bitboard;
+    private RestartingKnightsTour restarting;
+    private KnightsTourSolver greedy;
+    private ClosedKnightsTour closed;
+    private int[][] grid; // result of the last request
+    private Engine engine;
 
     /**
-     * creates a grid with randomly set values, finds a row and column that are adjacent
-     * to each other, sets the value of the cell at that intersection to 1, and then
-     * solves for the remaining cells using a recursive algorithm.
+     * creates a front door for a rows x columns board.
+     * 
+     * @param rows number of rows, at least 1.
      * 
-     * @param args 0-dimensional array of command-line arguments passed to the program,
-     * which is not used in the provided code.
+     * @param columns number of columns, at least 1.
      */
-    public static void main(String[] args) {
-        grid = new int[base][base];
-        total = (base - 4) * (base - 4);
-
-        for (int r = 0; r < base; r++) {
-            for (int c = 0; c < base; c++) {
-                if (r < 2 || r > base - 3 || c < 2 || c > base - 3) {
-                    grid[r][c] = -1;
-                }
-            }
+    public KnightsTour(int rows, int columns) {
+        if (rows < 1 || columns < 1) {
+            throw new IllegalArgumentException("board must be at least 1x1, got " + rows + "x" + columns);
         }
+        this.rows = rows;
+        this.columns = columns;
+        grid = new int[rows][columns];
+    }
 
-        int row = 2 + (int) (Math.random() * (base - 4));
-        int col = 2 + (int) (Math.random() * (base - 4));
+    @Override
+    public int getRows() {
+        return rows;
+    }
 
-        grid[row][col] = 1;
+    @Override
+    public int getColumns() {
+        return columns;
+    }
 
-        if (solve(row, col, 2)) {
-            printResult();
-        } else {
-            System.out.println("no result");
-        }
+    /**
+     * returns the engine that answered the last request.
+     * 
+     * @returns the engine, or null before the first request.
+     */
+    public Engine getEngine() {
+        return engine;
     }
-    
+
     /**
-     * solves a Sudoku puzzle by checking if the given row, column and count can be filled
-     * with a number from 1 to total without breaking any constraints. If it can be solved,
-     * the function returns true.
+     * searches like {@link #solve(int, int, SearchLimits)} and gives up after 10 seconds,
+     * so that a start square the engines cannot handle returns instead of hanging.
      * 
-     * @param row 2D coordinate of a cell in the grid where the algorithm is trying to
-     * find a solution for the given count.
+     * @param row 0-based row of the start square.
      * 
-     * @param column 2nd coordinate of the grid cell being evaluated, which is used to
-     * determine the neighboring cells and sort them based on their values.
+     * @param column 0-based column of the start square.
      * 
-     * @param count 2D position's available neighbors to be selected for the current
-     * iteration of the recursive algorithm.
+     * @returns true if a tour was found, false if there is none or the search gave up.
+     */
+    @Override
+    public boolean solve(int row, int column) {
+        return solve(row, column, defaultLimits) == SearchOutcome.SOLVED;
+    }
+
+    /**
+     * searches for an open tour from the given square with the fastest engine for it:
+     * the colour checks on odd and four-wide boards, the rotation of a closed tour that
+     * is already cached, the bitboard search on 8x8, the block construction from a
+     * corner and the greedy walk elsewhere. A walk that gets stuck falls back to a
+     * short backtracking search and then to the restarting search.
+     * 
+     * @param row 0-based row of the start square.
+     * 
+     * @param column 0-based column of the start square.
+     * 
+     * @param limits node budget, timeout and cancel flag of the greedy walk's fallback
+     * and of the restarting search together. The colour checks, the rotation and the block
+     * construction do not search the board. The bitboard search does, but ignores them,
+     * as it takes microseconds from every 8x8 start square.
      * 
-     * @returns a boolean value indicating whether the Sudoku puzzle has been solved.
+     * @returns SOLVED if a tour was found, NO_TOUR if the start square has none, or
+     * GAVE_UP if a limit stopped the search first.
      */
-    private static boolean solve(int row, int column, int count) {
-        if (count > total) {
-            return true;
+    public SearchOutcome solve(int row, int column, SearchLimits limits) {
+        if (row < 0 || row >= rows || column < 0 || column >= columns) {
+            throw new IllegalArgumentException("start square (" + row + ", " + column + ") is off the board");
         }
-
-        List<int[]> neighbor = neighbors(row, column);
-
-        if (neighbor.isEmpty() && count != total) {
-            return false;
+        if (KnightsTourSolver.noOpenTour(rows, columns, row, column)) {
+            answer(Engine.COLOUR_CHECK, false, null);
+            return SearchOutcome.NO_TOUR;
         }
-
-        neighbor.sort(Comparator.comparingInt(a -> a[2]));
-
-        for (int[] nb : neighbor) {
-            row = nb[0];
-            column = nb[1];
-            grid[row][column] = count;
-            if (!orphanDetected(count, row, column) && solve(row, column, count + 1)) {
-                return true;
+        if (ClosedKnightsTour.isCached(rows, columns)) {
+            return solveClosed(row, column, limits);
+        }
+        if (rows == 8 && columns == 8) {
+            if (bitboard == null) {
+                bitboard = new BitboardKnightsTour();
             }
-            grid[row][column] = 0;
+            boolean found = bitboard.solve(row, column);
+            answer(Engine.BITBOARD, found, bitboard);
+            return found ? SearchOutcome.SOLVED : SearchOutcome.NO_TOUR;
         }
-
-        return false;
+        boolean corner = (row == 0 || row == rows - 1) && (column == 0 || column == columns - 1);
+        if (corner && Math.min(rows, columns) >= constructiveSide) {
+            engine = Engine.CONSTRUCTIVE;
+            int[][] fromOrigin = new ConstructiveKnightsTour(rows, columns).tour();
+            for (int r = 0; r < rows; r++) {
+                int[] source = fromOrigin[row == 0 ? r : rows - 1 - r];
+                for (int c = 0; c < columns; c++) {
+                    grid[r][c] = source[column == 0 ? c : columns - 1 - c];
+                }
+            }
+            return SearchOutcome.SOLVED;
+        }
+        if (greedy == null) {
+            greedy = new KnightsTourSolver(rows, columns);
+            greedy.setMoveOrdering(MoveOrdering.centerDistance());
+        }
+        long started = System.nanoTime();
+        long walkNodes = (1L + fallbackNodesPerSquare) * rows * columns; // the walk itself takes one node per square
+        SearchOutcome outcome = greedy.solveGreedy(row, column, limits.maxNodes(Math.min(limits.getMaxNodes(), walkNodes)));
+        if (outcome != SearchOutcome.GAVE_UP) {
+            answer(Engine.GREEDY, outcome == SearchOutcome.SOLVED, greedy);
+            return outcome;
+        }
+        if (restarting == null) {
+            restarting = new RestartingKnightsTour(rows, columns, seed);
+        }
+        SearchLimits rest = limits.maxNodes(Math.max(0, limits.getMaxNodes() - greedy.getNodes()));
+        if (limits.getTimeoutNanos() != Long.MAX_VALUE) {
+            rest = rest.timeout(Duration.ofNanos(Math.max(0, limits.getTimeoutNanos() - (System.nanoTime() - started))));
+        }
+        outcome = restarting.solve(row, column, rest);
+        answer(Engine.RESTARTING, outcome == SearchOutcome.SOLVED, restarting);
+        return outcome;
     }
 
     /**
-     * returns a list of adjacent cells to a given cell in a two-dimensional grid, based
-     * on moves available in the grid.
+     * searches like {@link #solveClosed(int, int, SearchLimits)} and gives up after 10
+     * seconds, so that the first request for a large board returns instead of hanging.
      * 
-     * @param row 2D co-ordinate of the cell in the grid that is being examined for neighbors.
+     * @param row 0-based row of the start square.
      * 
-     * @param column 1-based index of the column in the grid for which neighbors are being
-     * computed.
+     * @param column 0-based column of the start square.
      * 
-     * @returns a list of arrays containing the neighbors of a given cell in the grid,
-     * along with the number of cells adjacent to each neighbor.
+     * @returns true if a closed tour was found, false if the board has none or the
+     * search gave up.
      */
-    private static List<int[]> neighbors(int row, int column) {
-        List<int[]> neighbour = new ArrayList<>();
-
-        for (int[] m : moves) {
-            int x = m[0];
-            int y = m[1];
-            if (grid[row + y][column + x] == 0) {
-                int num = countNeighbors(row + y, column + x);
-                neighbour.add(new int[] {row + y, column + x, num});
-            }
-        }
-        return neighbour;
+    public boolean solveClosed(int row, int column) {
+        return solveClosed(row, column, defaultLimits) == SearchOutcome.SOLVED;
     }
 
     /**
-     * counts the number of cells at a given row and column that are surrounded by cells
-     * of a specific value (probable a "live" cell). It does so by iterating over all
-     * possible move combinations and checking if the adjacent cells are the specified value.
+     * finds a closed tour from the given square by rotating the closed tour of this
+     * board size, which is searched for once and then shared by every instance.
      * 
-     * @param row 1D coordinate of the grid cell that is being analyzed for neighbors.
+     * @param row 0-based row of the start square.
      * 
-     * @param column 1D position of the cell being counted as a neighbor within the grid.
+     * @param column 0-based column of the start square.
      * 
-     * @returns the number of unexplored cells in a given row and column of the grid.
+     * @param limits node budget, timeout and cancel flag of the search, which only runs
+     * while no closed tour of this size is cached.
+     * 
+     * @returns SOLVED if a closed tour was found, NO_TOUR if the board cannot hold one,
+     * or GAVE_UP if the search ran out of limits or budget first.
      */
-    private static int countNeighbors(int row, int column) {
-        int num = 0;
-        for (int[] m : moves) {
-            if (grid[row + m[1]][column + m[0]] == 0) {
-                num++;
-            }
+    public SearchOutcome solveClosed(int row, int column, SearchLimits limits) {
+        if (closed == null) {
+            closed = new ClosedKnightsTour(rows, columns);
+        }
+        SearchOutcome outcome = closed.solve(row, column, limits);
+        answer(Engine.CLOSED_ROTATION, outcome == SearchOutcome.SOLVED, closed);
+        return outcome;
+    }
+
+    @Override
+    public int[][] tour() {
+        int[][] result = new int[rows][];
+        for (int r = 0; r < rows; r++) {
+            result[r] = grid[r].clone();
         }
-        return num;
+        return result;
     }
 
     /**
-     * determines whether a given cell is an orphan by iterating through its neighboring
-     * cells and checking if any of them have zero count neighbors. If so, it returns
-     * true; otherwise, it returns false.
+     * records the engine that answered and keeps its board as the result, or an empty
+     * board if it found nothing; the strategy may be null in that case.
+     */
+    private void answer(Engine used, boolean found, KnightsTourStrategy strategy) {
+        engine = used;
+        grid = found ? strategy.tour() : new int[rows][columns];
+    }
+
+    /**
+     * Calculates the number of elements in a collection. It iterates through each node,
+     * increments a counter for each non-null element, and returns the total count. The
+     * iteration continues until it reaches the end of the list or encounters an integer
+     * overflow.
      * 
-     * @param count 1D array being analyzed, and is used to determine whether the current
-     * element is an orphan based on the number of neighbors it has.
+     * @returns an integer representing the number of non-null elements in the collection.
      * 
-     * @param row 2D coordinate of the cell being evaluated for orphan status.
+     * The output is an integer value representing the number of elements in the collection.
+     * It is bounded by Integer.MAX_VALUE, meaning that if the actual size exceeds this
+     * limit, the returned value will be equal to Integer.MAX_VALUE.
+     */
+    public int size() {
+        restartFromHead: for (;;) {
+            int count = 0;
+            for (Node<E> p = first(); p != null;) {
+                if (p.item != null)
+                    if (++count == Integer.MAX_VALUE)
+                        break;  // @see Collection.size()
+                if (p == (p = p.next))
+                    continue restartFromHead;
+            }
+            return count;
+        }
+    }
+    
+    /**
+     * solves a tour on the standard board from a random start square and prints the
+     * seed, the engine that answered and the numbered board, or "no result" if no tour
+     * was found. The seed picks the start square, so passing a printed seed back in
+     * reproduces the same tour.
      * 
-     * @param column 2D position of the cell in the grid, and is used to determine which
-     * cells are neighbors of the cell being analyzed.
+     * @param args optional seed as the first argument; a seed is made up if it is missing.
      * 
-     * @returns a boolean value indicating whether an orphaned cell exists at the specified
-     * row and column.
+     * @throws IOException if the board cannot be written to standard output.
      */
-    private static boolean orphanDetected(int count, int row, int column) {
-        if (count < total - 1) {
-            List<int[]> neighbor = neighbors(row, column);
-            for (int[] nb : neighbor) {
-                if (countNeighbors(nb[0], nb[1]) == 0) {
-                    return true;
-                }
-            }
+    public static void main(String[] args) throws IOException {
+        long seed = args.length > 0 ? Long.parseLong(args[0]) : System.nanoTime();
+        SplittableRandom random = new SplittableRandom(seed);
+        KnightsTour solver = new KnightsTour(8, 8);
+
+        int row = random.nextInt(solver.getRows());
+        int col = random.nextInt(solver.getColumns());
+        System.out.println("seed " + seed);
+
+        if (solver.solve(row, col)) {
+            System.out.println("engine " + solver.getEngine());
+            printResult(solver.tour());
+        } else {
+            System.out.println("no result");
         }
-        return false;
     }
 
     /**
-     * loops through a 2D array `grid` and prints each element, skipping any with value
-     * `-1`.
+     * prints the board as aligned text through a {@link TourWriter}, which formats it in
+     * one buffer instead of printing every number on its own.
+     * 
+     * @param grid board of move numbers to print, one row per line.
+     * 
+     * @throws IOException if standard output cannot be written.
      */
-    private static void printResult() {
-        for (int[] row : grid) {
-            for (int i : row) {
-                if (i == -1) {
-                    continue;
-                }
-                System.out.printf("%2d ", i);
-            }
-            System.out.println();
-        }
+    private static void printResult(int[][] grid) throws IOException {
+        new TourWriter(TourWriter.Format.TEXT).write(grid, Channels.newChannel(System.out));
+        System.out.flush();
     }
 }
@@ -0,0 +1,74 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class BitboardKnightsTourTest {
+
+    @Test
+    void everyStartSquareHasATour() {
+        for (int row = 0; row < 8; row++) {
+            for (int column = 0; column < 8; column++) {
+                BitboardKnightsTour strategy = new BitboardKnightsTour();
+                assertTrue(strategy.solve(row, column), "no tour from (" + row + ", " + column + ")");
+                assertTrue(isTourFrom(strategy.tour(), row, column), "bad tour from (" + row + ", " + column + ")");
+            }
+        }
+    }
+
+    @Test
+    void oneInstanceSolvesStartAfterStart() {
+        BitboardKnightsTour strategy = new BitboardKnightsTour();
+        for (int square = 63; square >= 0; square--) {
+            assertTrue(strategy.solve(square / 8, square % 8));
+            assertTrue(isTourFrom(strategy.tour(), square / 8, square % 8));
+        }
+    }
+
+    @Test
+    void boardIsStandardChessboard() {
+        BitboardKnightsTour strategy = new BitboardKnightsTour();
+        assertEquals(8, strategy.getRows());
+        assertEquals(8, strategy.getColumns());
+    }
+
+    @Test
+    void rejectsStartSquaresOffTheBoard() {
+        BitboardKnightsTour strategy = new BitboardKnightsTour();
+        assertThrows(IllegalArgumentException.class, () -> strategy.solve(-1, 0));
+        assertThrows(IllegalArgumentException.class, () -> strategy.solve(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> strategy.solve(8, 3));
+        assertThrows(IllegalArgumentException.class, () -> strategy.solve(3, 8));
+    }
+
+    /**
+     * checks that the grid numbers every square once, starts at the given square and
+     * only makes knight's moves.
+     */
+    private static boolean isTourFrom(int[][] grid, int row, int column) {
+        int[] squares = new int[65]; // move number -> row * 8 + column, plus one
+        for (int r = 0; r < 8; r++) {
+            for (int c = 0; c < 8; c++) {
+                int move = grid[r][c];
+                if (move < 1 || move > 64 || squares[move] != 0) {
+                    return false;
+                }
+                squares[move] = r * 8 + c + 1;
+            }
+        }
+        if (squares[1] != row * 8 + column + 1) {
+            return false;
+        }
+        for (int move = 2; move <= 64; move++) {
+            int dr = Math.abs((squares[move] - 1) / 8 - (squares[move - 1] - 1) / 8);
+            int dc = Math.abs((squares[move] - 1) % 8 - (squares[move - 1] - 1) % 8);
+            if (dr * dc != 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
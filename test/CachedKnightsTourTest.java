@@ -0,0 +1,126 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class CachedKnightsTourTest {
+
+    private static final SearchLimits hitsOnly = SearchLimits.none().maxNodes(0); // any search gives up at once
+
+    @BeforeEach
+    @AfterEach
+    void resetCache() {
+        CachedKnightsTour.setMaxCachedSquares(0);
+        CachedKnightsTour.clearCache();
+    }
+
+    @Test
+    void collapsesThe64StartsOf8x8IntoTenEntries() {
+        CachedKnightsTour cached = new CachedKnightsTour(8, 8, false);
+        for (int row = 0; row < 8; row++) {
+            for (int column = 0; column < 8; column++) {
+                assertTrue(cached.solve(row, column));
+            }
+        }
+        assertEquals(10, CachedKnightsTour.cachedTours());
+    }
+
+    @Test
+    void transformedToursAreValidFromEveryStart() {
+        int[][] boards = {{8, 8}, {5, 6}, {6, 5}, {7, 7}};
+        for (int[] board : boards) {
+            CachedKnightsTour cached = new CachedKnightsTour(board[0], board[1], false);
+            for (int row = 0; row < board[0]; row++) {
+                for (int column = 0; column < board[1]; column++) {
+                    SearchOutcome outcome = cached.solve(row, column, SearchLimits.none());
+                    if (board[0] * board[1] % 2 == 1 && (row + column) % 2 == 1) {
+                        assertEquals(SearchOutcome.NO_TOUR, outcome);
+                    } else {
+                        assertEquals(SearchOutcome.SOLVED, outcome);
+                        assertTrue(isTourFrom(cached.tour(), row, column, false));
+                    }
+                }
+            }
+        }
+
+        CachedKnightsTour closed = new CachedKnightsTour(6, 6, true);
+        for (int row = 0; row < 6; row++) {
+            for (int column = 0; column < 6; column++) {
+                assertTrue(closed.solve(row, column));
+                assertTrue(isTourFrom(closed.tour(), row, column, true));
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void startsRuledOutByColouringAreAnsweredWithoutSearching() {
+        CachedKnightsTour cached = new CachedKnightsTour(4, 30, false);
+        assertEquals(SearchOutcome.NO_TOUR, cached.solve(1, 7, SearchLimits.none()));
+        assertEquals(0, cached.tour()[1][7]);
+        assertEquals(0, CachedKnightsTour.cachedTours());
+    }
+
+    @Test
+    void searchesThatGaveUpAreNotCached() {
+        CachedKnightsTour cached = new CachedKnightsTour(6, 6, false);
+        assertEquals(SearchOutcome.GAVE_UP, cached.solve(0, 0, hitsOnly));
+        assertEquals(0, cached.tour()[0][0]);
+        assertEquals(0, CachedKnightsTour.cachedTours());
+        assertEquals(SearchOutcome.SOLVED, cached.solve(0, 0, SearchLimits.none()));
+        assertEquals(SearchOutcome.SOLVED, cached.solve(0, 0, hitsOnly));
+    }
+
+    @Test
+    void dropsTheLeastRecentlyUsedTourOnceFull() {
+        CachedKnightsTour.setMaxCachedSquares(3 * 36);
+        CachedKnightsTour cached = new CachedKnightsTour(6, 6, false);
+        assertTrue(cached.solve(0, 0));
+        assertTrue(cached.solve(0, 1));
+        assertTrue(cached.solve(0, 2));
+        assertEquals(SearchOutcome.SOLVED, cached.solve(0, 0, hitsOnly));
+
+        assertTrue(cached.solve(1, 1));
+        assertEquals(3, CachedKnightsTour.cachedTours());
+        assertEquals(SearchOutcome.GAVE_UP, cached.solve(0, 1, hitsOnly));
+        assertEquals(SearchOutcome.SOLVED, cached.solve(0, 0, hitsOnly));
+        assertEquals(SearchOutcome.SOLVED, cached.solve(0, 2, hitsOnly));
+        assertEquals(SearchOutcome.SOLVED, cached.solve(1, 1, hitsOnly));
+    }
+
+    private static boolean isTourFrom(int[][] tour, int row, int column, boolean closed) {
+        int rows = tour.length;
+        int columns = tour[0].length;
+        int total = rows * columns;
+        int[] rowOf = new int[total + 1];
+        int[] columnOf = new int[total + 1];
+        boolean[] placed = new boolean[total + 1];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int move = tour[r][c];
+                if (move < 1 || move > total || placed[move]) {
+                    return false;
+                }
+                placed[move] = true;
+                rowOf[move] = r;
+                columnOf[move] = c;
+            }
+        }
+        if (tour[row][column] != 1) {
+            return false;
+        }
+        for (int move = 1; move < (closed ? total + 1 : total); move++) {
+            int next = move == total ? 1 : move + 1;
+            if (Math.abs(rowOf[next] - rowOf[move]) * Math.abs(columnOf[next] - columnOf[move]) != 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,86 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class ClosedKnightsTourTest {
+
+    @Test
+    void rotatesTheClosedTourOntoEveryStartSquare() {
+        ClosedKnightsTour closed = new ClosedKnightsTour(6, 6);
+        for (int row = 0; row < 6; row++) {
+            for (int column = 0; column < 6; column++) {
+                assertTrue(closed.solve(row, column));
+                int[][] tour = closed.tour();
+                assertEquals(1, tour[row][column]);
+                assertTrue(isClosedTour(tour));
+            }
+        }
+        assertTrue(ClosedKnightsTour.isCached(6, 6));
+    }
+
+    @Test
+    void boardsWithoutClosedToursAreNotCached() {
+        assertFalse(new ClosedKnightsTour(5, 5).solve(0, 0));
+        assertFalse(new ClosedKnightsTour(4, 8).solve(0, 0));
+        assertFalse(ClosedKnightsTour.isCached(5, 5));
+        assertFalse(ClosedKnightsTour.isCached(4, 8));
+    }
+
+    @Test
+    void boardsWithoutClosedToursAreReportedAsNoTour() {
+        assertEquals(SearchOutcome.NO_TOUR, new ClosedKnightsTour(5, 5).solve(0, 0, SearchLimits.none()));
+        assertEquals(SearchOutcome.NO_TOUR, new ClosedKnightsTour(4, 8).solve(0, 0, SearchLimits.none()));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void coldSearchStopsWithinItsLimits() {
+        ClosedKnightsTour.clearCache();
+        ClosedKnightsTour closed = new ClosedKnightsTour(200, 200);
+        assertEquals(SearchOutcome.GAVE_UP, closed.solve(0, 0, SearchLimits.none().timeout(Duration.ofMillis(200))));
+        assertEquals(0, closed.tour()[0][0]);
+        assertFalse(ClosedKnightsTour.isCached(200, 200));
+
+        AtomicBoolean cancelled = new AtomicBoolean(true);
+        assertEquals(SearchOutcome.GAVE_UP, closed.solve(0, 0, SearchLimits.none().cancelledBy(cancelled)));
+        assertEquals(SearchOutcome.GAVE_UP, new ClosedKnightsTour(6, 6).solve(0, 0, SearchLimits.none().maxNodes(0)));
+    }
+
+    @Test
+    void clearCacheForgetsFoundTours() {
+        assertTrue(new ClosedKnightsTour(6, 8).solve(0, 0));
+        assertTrue(ClosedKnightsTour.isCached(6, 8));
+        ClosedKnightsTour.clearCache();
+        assertFalse(ClosedKnightsTour.isCached(6, 8));
+        assertTrue(new ClosedKnightsTour(6, 8).solve(2, 3));
+    }
+
+    private static boolean isClosedTour(int[][] tour) {
+        int rows = tour.length;
+        int columns = tour[0].length;
+        int total = rows * columns;
+        int[] rowOf = new int[total + 1];
+        int[] columnOf = new int[total + 1];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                rowOf[tour[r][c]] = r;
+                columnOf[tour[r][c]] = c;
+            }
+        }
+        for (int move = 1; move <= total; move++) {
+            int next = move == total ? 1 : move + 1;
+            if (Math.abs(rowOf[next] - rowOf[move]) * Math.abs(columnOf[next] - columnOf[move]) != 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
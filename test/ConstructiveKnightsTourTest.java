@@ -0,0 +1,90 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class ConstructiveKnightsTourTest {
+
+    @Test
+    void buildsToursOnOddByOddBoards() {
+        int[][] sizes = {{7, 7}, {9, 9}, {9, 11}, {13, 17}, {21, 15}, {25, 25}, {37, 53}};
+        for (int[] size : sizes) {
+            assertTourFromCorner(size[0], size[1]);
+        }
+    }
+
+    @Test
+    void buildsToursOnThinBoards() {
+        for (int length = 6; length <= 40; length++) {
+            assertTourFromCorner(6, length);
+            assertTourFromCorner(length, 6);
+        }
+        assertTourFromCorner(6, 1001);
+        assertTourFromCorner(7, 500);
+    }
+
+    @Test
+    void buildsToursOnEveryBoardUpToTwentyFour() {
+        for (int rows = 6; rows <= 24; rows++) {
+            for (int columns = 6; columns <= 24; columns++) {
+                assertTourFromCorner(rows, columns);
+            }
+        }
+    }
+
+    @Test
+    void buildsToursOnLargeNonSquareBoards() {
+        assertTourFromCorner(99, 101);
+        assertTourFromCorner(199, 201);
+        assertTourFromCorner(999, 1001);
+    }
+
+    @Test
+    void tourBuildAndWalkAgree() {
+        ConstructiveKnightsTour builder = new ConstructiveKnightsTour(23, 31);
+        int[][] tour = builder.tour();
+        assertArrayEquals(tour, builder.build().toGrid());
+        int[] next = {1};
+        builder.walk((row, column, move) -> {
+            assertEquals(next[0]++, move);
+            assertEquals(tour[row][column], move);
+        });
+        assertEquals(23 * 31 + 1, next[0]);
+    }
+
+    @Test
+    void rejectsBoardsBelowTheSmallestBlock() {
+        assertThrows(IllegalArgumentException.class, () -> new ConstructiveKnightsTour(5, 100));
+        assertThrows(IllegalArgumentException.class, () -> new ConstructiveKnightsTour(100, 5));
+        assertThrows(IllegalArgumentException.class, () -> new ConstructiveKnightsTour(50_000, 50_000));
+    }
+
+    /**
+     * checks that the constructed tour of a rows x columns board visits every square
+     * exactly once, starts in the top-left corner and only makes knight's moves.
+     */
+    private static void assertTourFromCorner(int rows, int columns) {
+        String board = rows + "x" + columns;
+        int[][] tour = new ConstructiveKnightsTour(rows, columns).tour();
+        int squares = rows * columns;
+        int[] square = new int[squares + 1]; // move number -> row * columns + column, plus one
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int move = tour[r][c];
+                assertTrue(move >= 1 && move <= squares, board + ": move " + move + " is out of range");
+                assertEquals(0, square[move], board + ": move " + move + " is made twice");
+                square[move] = r * columns + c + 1;
+            }
+        }
+        assertEquals(1, square[1], board + ": tour does not start at (0, 0)");
+        for (int move = 2; move <= squares; move++) {
+            int dr = Math.abs((square[move] - 1) / columns - (square[move - 1] - 1) / columns);
+            int dc = Math.abs((square[move] - 1) % columns - (square[move - 1] - 1) % columns);
+            assertTrue(dr * dc == 2, board + ": move " + move + " is not a knight's move");
+        }
+    }
+}
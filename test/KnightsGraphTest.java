@@ -0,0 +1,39 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import org.junit.jupiter.api.Test;
+
+public class KnightsGraphTest {
+
+    @Test
+    void sharesOneGraphPerBoardSize() {
+        assertSame(KnightsGraph.of(7, 9), KnightsGraph.of(7, 9));
+        assertNotSame(KnightsGraph.of(7, 9), KnightsGraph.of(9, 7));
+    }
+
+    @Test
+    void clearCacheBuildsTheGraphAgain() {
+        KnightsGraph before = KnightsGraph.of(11, 11);
+        KnightsGraph.clearCache();
+        assertNotSame(before, KnightsGraph.of(11, 11));
+    }
+
+    @Test
+    void dropsTheLeastRecentlyUsedGraphOnceFull() {
+        KnightsGraph small = KnightsGraph.of(13, 13);
+        KnightsGraph.of(1450, 1450);
+        assertNotSame(small, KnightsGraph.of(13, 13));
+        KnightsGraph.clearCache();
+    }
+
+    @Test
+    void countsEveryKnightMoveOnTheBoard() {
+        KnightsGraph graph = KnightsGraph.of(8, 8);
+        assertEquals(336, graph.targets.length);
+        assertEquals(2, graph.offsets[1] - graph.offsets[0]);
+        assertEquals(8, graph.offsets[3 * 8 + 4] - graph.offsets[3 * 8 + 3]);
+    }
+}
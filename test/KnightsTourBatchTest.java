@@ -0,0 +1,99 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class KnightsTourBatchTest {
+
+    @Test
+    void solvesEveryStartSquareThatHasATour() {
+        int[][][] tours = KnightsTourBatch.solveAll(5, 5);
+        assertEquals(25, tours.length);
+        for (int square = 0; square < 25; square++) {
+            int row = square / 5;
+            int column = square % 5;
+            if ((row + column) % 2 == 0) {
+                assertNotNull(tours[square]);
+                assertEquals(1, tours[square][row][column]);
+            } else {
+                assertNull(tours[square]);
+            }
+        }
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void answersInnerSquaresOfFourWideBoardsWithoutSearching() {
+        int[][][] tours = KnightsTourBatch.solveAll(12, 4);
+        for (int square = 0; square < tours.length; square++) {
+            int row = square / 12;
+            int column = square % 12;
+            if (row == 1 || row == 2) {
+                assertNull(tours[square]);
+            } else {
+                assertNotNull(tours[square]);
+                assertEquals(1, tours[square][row][column]);
+            }
+        }
+    }
+
+    @Test
+    void reportsSquaresThatRanOutOfLimitsApartFromSquaresWithNoTour() {
+        SearchOutcome[] outcomes = new SearchOutcome[25];
+        int[][][] tours = KnightsTourBatch.solveAll(5, 5, SearchLimits.none().maxNodes(0), 2, Executors.newCachedThreadPool(),
+            (row, column, outcome, tour) -> outcomes[row * 5 + column] = outcome);
+        for (int square = 0; square < 25; square++) {
+            assertNull(tours[square]);
+            assertEquals((square / 5 + square % 5) % 2 == 0 ? SearchOutcome.GAVE_UP : SearchOutcome.NO_TOUR, outcomes[square]);
+        }
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void raisedCancelFlagStopsTheBatch() {
+        AtomicBoolean cancelled = new AtomicBoolean(true);
+        AtomicInteger calls = new AtomicInteger();
+        KnightsTourBatch.solveAll(40, 40, SearchLimits.none().cancelledBy(cancelled), 4, Executors.newCachedThreadPool(),
+            (row, column, outcome, tour) -> calls.incrementAndGet());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    void interruptedBatchKeepsTheInterruptFlag() {
+        Thread.currentThread().interrupt();
+        int[][][] tours = KnightsTourBatch.solveAll(8, 8);
+        assertTrue(Thread.interrupted());
+        assertEquals(64, tours.length);
+    }
+
+    @Test
+    void failingListenerStopsEveryWorkerBeforeThrowing() throws InterruptedException {
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            AtomicInteger calls = new AtomicInteger();
+            assertThrows(IllegalStateException.class, () -> KnightsTourBatch.solveAll(8, 8, SearchLimits.none(), 4, executor,
+                (row, column, outcome, tour) -> {
+                    if (calls.incrementAndGet() == 3) {
+                        throw new IllegalArgumentException("listener failed");
+                    }
+                }));
+            int seen = calls.get();
+            Thread.sleep(100);
+            assertEquals(seen, calls.get());
+        } finally {
+            executor.shutdownNow();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import org.junit.jupiter.api.Test;
+
+public class KnightsTourEnumeratorTest {
+
+    @Test
+    void countsEveryOpenTourOn5x5() {
+        long[][] expected = {
+            {304, 0, 56, 0, 304},
+            {0, 56, 0, 56, 0},
+            {56, 0, 64, 0, 56},
+            {0, 56, 0, 56, 0},
+            {304, 0, 56, 0, 304},
+        };
+        KnightsTourEnumerator enumerator = new KnightsTourEnumerator(5, 5);
+        long total = 0;
+        for (int row = 0; row < 5; row++) {
+            for (int column = 0; column < 5; column++) {
+                long count = enumerator.count(row, column);
+                assertEquals(expected[row][column], count);
+                total += count;
+            }
+        }
+        assertEquals(1728, total);
+    }
+
+    @Test
+    void splitDepthDoesNotChangeTheCount() {
+        KnightsTourEnumerator sequential = new KnightsTourEnumerator(5, 5, 0, ForkJoinPool.commonPool());
+        KnightsTourEnumerator split = new KnightsTourEnumerator(5, 5, 8, ForkJoinPool.commonPool());
+        assertEquals(sequential.count(0, 0), split.count(0, 0));
+        assertEquals(sequential.count(2, 2), split.count(2, 2));
+    }
+
+    @Test
+    void forEachHandsOverDistinctValidTours() {
+        Set<String> seen = ConcurrentHashMap.newKeySet();
+        long count = new KnightsTourEnumerator(5, 5).forEach(0, 0, tour -> {
+            assertEquals(1, tour[0][0]);
+            assertTrue(isTour(tour));
+            seen.add(Arrays.deepToString(tour));
+        });
+        assertEquals(304, count);
+        assertEquals(304, seen.size());
+    }
+
+    @Test
+    void boardsWithoutToursCountZero() {
+        assertEquals(1, new KnightsTourEnumerator(1, 1).count(0, 0));
+        assertEquals(0, new KnightsTourEnumerator(3, 3).count(0, 0));
+        assertEquals(0, new KnightsTourEnumerator(4, 4).count(0, 0));
+    }
+
+    private static boolean isTour(int[][] tour) {
+        int rows = tour.length;
+        int columns = tour[0].length;
+        int[] rowOf = new int[rows * columns + 1];
+        int[] columnOf = new int[rows * columns + 1];
+        boolean[] placed = new boolean[rows * columns + 1];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int move = tour[r][c];
+                if (move < 1 || move > rows * columns || placed[move]) {
+                    return false;
+                }
+                placed[move] = true;
+                rowOf[move] = r;
+                columnOf[move] = c;
+            }
+        }
+        for (int move = 2; move <= rows * columns; move++) {
+            if (Math.abs(rowOf[move] - rowOf[move - 1]) * Math.abs(columnOf[move] - columnOf[move - 1]) != 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,143 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+import org.junit.jupiter.api.io.TempDir;
+
+public class KnightsTourSolverTest {
+
+    private static final com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void solveAllocatesNothingOnceWarmedUp() {
+        KnightsTourSolver solver = new KnightsTourSolver();
+        for (int i = 0; i < 200; i++) {
+            solveEveryStart(solver);
+        }
+
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        boolean found = solveEveryStart(solver);
+        long after = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+
+        assertTrue(found);
+        assertEquals(0, after - before);
+    }
+
+    @Test
+    void limitedSolveAllocatesNothingOnceWarmedUp() {
+        KnightsTourSolver solver = new KnightsTourSolver();
+        SearchLimits limits = SearchLimits.none().maxNodes(1_000_000).timeout(Duration.ofSeconds(10));
+        for (int i = 0; i < 200; i++) {
+            solveEveryStart(solver, limits);
+        }
+
+        long before = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+        boolean found = solveEveryStart(solver, limits);
+        long after = threads.getThreadAllocatedBytes(Thread.currentThread().getId());
+
+        assertTrue(found);
+        assertEquals(0, after - before);
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void minorityColourStartsOnOddBoardsHaveNoTour() {
+        for (int side = 5; side <= 11; side += 2) {
+            KnightsTourSolver solver = new KnightsTourSolver(side, side);
+            for (int row = 0; row < side; row++) {
+                for (int column = (row + 1) % 2; column < side; column += 2) {
+                    assertFalse(solver.solve(row, column));
+                    assertEquals(SearchOutcome.NO_TOUR, solver.solve(row, column, SearchLimits.none()));
+                    assertFalse(solver.solveIterative(row, column));
+                }
+            }
+        }
+    }
+
+    @Test
+    void solveFindsTheSameToursAsTheRecursiveSearch() {
+        for (int side = 5; side <= 8; side++) {
+            KnightsTourSolver iterative = new KnightsTourSolver(side, side);
+            KnightsTourSolver recursive = new KnightsTourSolver(side, side);
+            for (int row = 0; row < side; row++) {
+                for (int column = 0; column < side; column++) {
+                    assertEquals(recursive.solveRecursive(row, column), iterative.solve(row, column));
+                    assertArrayEquals(recursive.tour(), iterative.tour());
+                }
+            }
+        }
+    }
+
+    @Test
+    void solveDoesNotOverflowTheStackOnLargeBoards() {
+        KnightsTourSolver solver = new KnightsTourSolver(128, 128);
+        assertTrue(solver.solve(0, 0));
+        int[][] tour = solver.tour();
+        assertEquals(1, tour[0][0]);
+        assertTrue(Arrays.stream(tour).flatMapToInt(Arrays::stream).allMatch(move -> move > 0));
+    }
+
+    @Test
+    void greedyFallbackKeepsTheWalkInItsCounters() {
+        KnightsTourSolver solver = new KnightsTourSolver(66, 69);
+        solver.setMoveOrdering(MoveOrdering.centerDistance());
+
+        assertEquals(SearchOutcome.GAVE_UP, solver.solveGreedy(37, 34, SearchLimits.none().maxNodes(0)));
+        assertTrue(solver.usedFallback());
+        assertTrue(solver.getNodes() > 0);
+    }
+
+    @Test
+    void greedyFallbackCommitsOneEvent(@TempDir Path directory) throws Exception {
+        KnightsTourSolver solver = new KnightsTourSolver(66, 69);
+        solver.setMoveOrdering(MoveOrdering.centerDistance());
+        Path file = directory.resolve("solve.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(KnightsTourSolveEvent.class).withoutThreshold();
+            recording.start();
+            assertEquals(SearchOutcome.GAVE_UP, solver.solveGreedy(37, 34, SearchLimits.none().maxNodes(0)));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        assertEquals(1, events.size());
+        assertTrue(events.get(0).getLong("nodes") > 0);
+        assertEquals(solver.getNodes(), events.get(0).getLong("nodes"));
+        assertEquals(solver.getBacktracks(), events.get(0).getLong("backtracks"));
+    }
+
+    private static boolean solveEveryStart(KnightsTourSolver solver) {
+        boolean found = true;
+        for (int row = 0; row < solver.getRows(); row++) {
+            for (int column = 0; column < solver.getColumns(); column++) {
+                found &= solver.solve(row, column);
+            }
+        }
+        return found;
+    }
+
+    private static boolean solveEveryStart(KnightsTourSolver solver, SearchLimits limits) {
+        boolean found = true;
+        for (int row = 0; row < solver.getRows(); row++) {
+            for (int column = 0; column < solver.getColumns(); column++) {
+                found &= solver.solve(row, column, limits) == SearchOutcome.SOLVED;
+            }
+        }
+        return found;
+    }
+}
@@ -0,0 +1,115 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class KnightsTourTest {
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void rejectsMinorityColourStartsWithoutSearching() {
+        for (int side = 7; side <= 11; side += 2) {
+            KnightsTour tour = new KnightsTour(side, side);
+            assertEquals(SearchOutcome.NO_TOUR, tour.solve(0, 1, SearchLimits.none()));
+            assertEquals(KnightsTour.Engine.COLOUR_CHECK, tour.getEngine());
+            assertEquals(0, tour.tour()[0][1]);
+        }
+    }
+
+    @Test
+    @Timeout(value = 5, unit = TimeUnit.SECONDS)
+    void rejectsInnerStartsOnFourWideBoards() {
+        KnightsTour wide = new KnightsTour(4, 30);
+        assertEquals(SearchOutcome.NO_TOUR, wide.solve(1, 7, SearchLimits.none()));
+        assertEquals(KnightsTour.Engine.COLOUR_CHECK, wide.getEngine());
+
+        KnightsTour tall = new KnightsTour(30, 4);
+        assertEquals(SearchOutcome.NO_TOUR, tall.solve(7, 2, SearchLimits.none()));
+        assertEquals(KnightsTour.Engine.COLOUR_CHECK, tall.getEngine());
+        assertTrue(tall.solve(7, 0));
+        assertTrue(isTourFrom(tall.tour(), 7, 0));
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void thinBoardsGoThroughTheRestartingSearch() {
+        KnightsTour three = new KnightsTour(3, 40);
+        assertTrue(three.solve(1, 5));
+        assertEquals(KnightsTour.Engine.RESTARTING, three.getEngine());
+        assertTrue(isTourFrom(three.tour(), 1, 5));
+
+        KnightsTour four = new KnightsTour(4, 30);
+        assertTrue(four.solve(0, 1));
+        assertTrue(isTourFrom(four.tour(), 0, 1));
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void stuckWalksThatBacktrackingCannotFinishGoThroughTheRestartingSearch() {
+        KnightsTour board = new KnightsTour(12, 80);
+        for (int[] start : new int[][] {{2, 17}, {4, 59}, {9, 17}}) {
+            assertEquals(SearchOutcome.SOLVED, board.solve(start[0], start[1], SearchLimits.none().timeout(Duration.ofSeconds(5))));
+            assertEquals(KnightsTour.Engine.RESTARTING, board.getEngine());
+            assertTrue(isTourFrom(board.tour(), start[0], start[1]));
+        }
+    }
+
+    @Test
+    void picksTheEngineForEachRequest() {
+        KnightsTour standard = new KnightsTour(8, 8);
+        assertTrue(standard.solve(3, 3));
+        assertEquals(KnightsTour.Engine.BITBOARD, standard.getEngine());
+        assertTrue(isTourFrom(standard.tour(), 3, 3));
+
+        KnightsTour large = new KnightsTour(40, 40);
+        assertTrue(large.solve(39, 0));
+        assertEquals(KnightsTour.Engine.CONSTRUCTIVE, large.getEngine());
+        assertTrue(isTourFrom(large.tour(), 39, 0));
+        assertTrue(large.solve(17, 22));
+        assertEquals(KnightsTour.Engine.GREEDY, large.getEngine());
+        assertTrue(isTourFrom(large.tour(), 17, 22));
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void limitsStopTheSearchOnHugeBoards() {
+        KnightsTour huge = new KnightsTour(1000, 1000);
+        SearchOutcome outcome = huge.solve(500, 500, SearchLimits.none().timeout(Duration.ofSeconds(1)));
+        assertTrue(outcome == SearchOutcome.SOLVED || outcome == SearchOutcome.GAVE_UP);
+        if (outcome == SearchOutcome.GAVE_UP) {
+            assertFalse(isTourFrom(huge.tour(), 500, 500));
+        }
+    }
+
+    private static boolean isTourFrom(int[][] tour, int row, int column) {
+        int rows = tour.length;
+        int columns = tour[0].length;
+        int total = rows * columns;
+        int[] rowOf = new int[total + 1];
+        int[] columnOf = new int[total + 1];
+        boolean[] placed = new boolean[total + 1];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int move = tour[r][c];
+                if (move < 1 || move > total || placed[move]) {
+                    return false;
+                }
+                placed[move] = true;
+                rowOf[move] = r;
+                columnOf[move] = c;
+            }
+        }
+        for (int move = 2; move <= total; move++) {
+            if (Math.abs(rowOf[move] - rowOf[move - 1]) * Math.abs(columnOf[move] - columnOf[move - 1]) != 2) {
+                return false;
+            }
+        }
+        return tour[row][column] == 1;
+    }
+}
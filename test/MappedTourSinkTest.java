@@ -0,0 +1,110 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class MappedTourSinkTest {
+    private static final int rows = 37;
+    private static final int columns = 53;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void moveNumbersRoundTrip() throws IOException {
+        assertMoveNumbers(writeWalk(MappedTourSink.Format.MOVE_NUMBERS, 28));
+    }
+
+    @Test
+    void moveNumbersRoundTripAcrossManyWindows() throws IOException {
+        assertMoveNumbers(writeWalk(MappedTourSink.Format.MOVE_NUMBERS, 4));
+    }
+
+    @Test
+    void moveNumbersAcceptSquaresInAnyOrder() throws IOException {
+        int[][] tour = new ConstructiveKnightsTour(rows, columns).tour();
+        Path file = directory.resolve("grid.bin");
+        try (MappedTourSink sink = new MappedTourSink(file, rows, columns, MappedTourSink.Format.MOVE_NUMBERS, 4)) {
+            for (int r = rows - 1; r >= 0; r--) {
+                for (int c = 0; c < columns; c++) {
+                    sink.visit(r, c, tour[r][c]);
+                }
+            }
+        }
+        assertMoveNumbers(file);
+    }
+
+    @Test
+    void moveCodesRoundTrip() throws IOException {
+        assertMoveCodes(writeWalk(MappedTourSink.Format.MOVE_CODES, 28));
+    }
+
+    @Test
+    void moveCodesRoundTripAcrossManyWindows() throws IOException {
+        assertMoveCodes(writeWalk(MappedTourSink.Format.MOVE_CODES, 2));
+    }
+
+    @Test
+    void moveCodesRejectMovesOutOfOrder() throws IOException {
+        MappedTourSink sink = new MappedTourSink(directory.resolve("codes.bin"), 6, 6, MappedTourSink.Format.MOVE_CODES);
+        sink.visit(0, 0, 1);
+        assertThrows(IllegalStateException.class, () -> sink.visit(1, 2, 3));
+        assertThrows(IllegalStateException.class, sink::close);
+    }
+
+    @Test
+    void closingAnIncompleteTourThrows() throws IOException {
+        MappedTourSink sink = new MappedTourSink(directory.resolve("grid.bin"), 6, 6, MappedTourSink.Format.MOVE_NUMBERS);
+        sink.visit(0, 0, 1);
+        assertThrows(IllegalStateException.class, sink::close);
+    }
+
+    @Test
+    void rejectsSquaresOffTheBoard() throws IOException {
+        try (MappedTourSink sink = new MappedTourSink(directory.resolve("grid.bin"), 6, 6, MappedTourSink.Format.MOVE_NUMBERS)) {
+            assertThrows(IndexOutOfBoundsException.class, () -> sink.visit(6, 0, 1));
+            assertThrows(IndexOutOfBoundsException.class, () -> sink.visit(0, -1, 1));
+            new ConstructiveKnightsTour(6, 6).walk(sink);
+        }
+    }
+
+    private Path writeWalk(MappedTourSink.Format format, int windowBits) throws IOException {
+        Path file = directory.resolve(format + "-" + windowBits + ".bin");
+        try (MappedTourSink sink = new MappedTourSink(file, rows, columns, format, windowBits)) {
+            new ConstructiveKnightsTour(rows, columns).walk(sink);
+        }
+        return file;
+    }
+
+    private static void assertMoveNumbers(Path file) throws IOException {
+        int[][] expected = new ConstructiveKnightsTour(rows, columns).tour();
+        ByteBuffer buffer = ByteBuffer.wrap(Files.readAllBytes(file));
+        assertEquals(2 * Integer.BYTES + rows * columns * Integer.BYTES, buffer.remaining());
+        assertEquals(rows, buffer.getInt());
+        assertEquals(columns, buffer.getInt());
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                assertEquals(expected[r][c], buffer.getInt(), "square (" + r + ", " + c + ")");
+            }
+        }
+    }
+
+    private static void assertMoveCodes(Path file) throws IOException {
+        int[][] expected = new ConstructiveKnightsTour(rows, columns).tour();
+        byte[] bytes = Files.readAllBytes(file);
+        assertEquals(TourCodec.encodedLength(rows, columns), bytes.length);
+        assertArrayEquals(TourCodec.encode(expected), bytes);
+        int[][] decoded = TourCodec.decode(ByteBuffer.wrap(bytes));
+        for (int r = 0; r < rows; r++) {
+            assertArrayEquals(expected[r], decoded[r], "row " + r);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class MoveOrderingTest {
+
+    @Test
+    void centerDistanceSpansTheWholeTieBreakRange() {
+        for (int[] size : new int[][] {{8, 8}, {5, 12}, {100, 100}}) {
+            KnightsTourSolver board = new KnightsTourSolver(size[0], size[1]);
+            MoveOrdering ordering = MoveOrdering.centerDistance();
+            int smallest = Integer.MAX_VALUE;
+            int largest = Integer.MIN_VALUE;
+            for (int row = 0; row < size[0]; row++) {
+                for (int column = 0; column < size[1]; column++) {
+                    int value = ordering.tieBreak(board, row, column);
+                    assertTrue(value >= 0 && value <= 63);
+                    smallest = Math.min(smallest, value);
+                    largest = Math.max(largest, value);
+                }
+            }
+            assertEquals(0, smallest);
+            assertTrue(largest >= 60);
+        }
+    }
+
+    @Test
+    void centerDistancePrefersTheRim() {
+        KnightsTourSolver board = new KnightsTourSolver(8, 8);
+        MoveOrdering ordering = MoveOrdering.centerDistance();
+        assertTrue(ordering.tieBreak(board, 0, 0) < ordering.tieBreak(board, 0, 3));
+        assertTrue(ordering.tieBreak(board, 0, 3) < ordering.tieBreak(board, 3, 3));
+    }
+
+    @Test
+    void pohlFindsToursFromEveryStartSquare() {
+        for (int[] size : new int[][] {{8, 8}, {6, 7}, {10, 10}}) {
+            for (int row = 0; row < size[0]; row++) {
+                for (int column = 0; column < size[1]; column++) {
+                    KnightsTourSolver solver = new KnightsTourSolver(size[0], size[1]);
+                    solver.setMoveOrdering(MoveOrdering.pohl());
+                    assertTrue(solver.solve(row, column));
+                    assertTrue(isTourFrom(solver.tour(), row, column));
+                }
+            }
+        }
+    }
+
+    @Test
+    void randomFindsToursFromEveryStartSquare() {
+        for (long seed = 1; seed <= 3; seed++) {
+            for (int row = 0; row < 8; row++) {
+                for (int column = 0; column < 8; column++) {
+                    KnightsTourSolver solver = new KnightsTourSolver(8, 8);
+                    solver.setMoveOrdering(MoveOrdering.random(seed));
+                    assertTrue(solver.solve(row, column));
+                    assertTrue(isTourFrom(solver.tour(), row, column));
+                }
+            }
+        }
+    }
+
+    @Test
+    void randomWithTheSameSeedRepeatsItsTour() {
+        for (int[] start : new int[][] {{0, 0}, {3, 4}, {7, 2}}) {
+            KnightsTourSolver first = new KnightsTourSolver(12, 12);
+            first.setMoveOrdering(MoveOrdering.random(42));
+            KnightsTourSolver second = new KnightsTourSolver(12, 12);
+            second.setMoveOrdering(MoveOrdering.random(42));
+            assertTrue(first.solve(start[0], start[1]));
+            assertTrue(second.solve(start[0], start[1]));
+            assertArrayEquals(first.tour(), second.tour());
+        }
+    }
+
+    /**
+     * checks that the grid numbers every square once, starts at the given square and
+     * only makes knight's moves.
+     */
+    private static boolean isTourFrom(int[][] grid, int row, int column) {
+        int rows = grid.length;
+        int columns = grid[0].length;
+        int[] squares = new int[rows * columns + 1]; // move number -> row * columns + column, plus one
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int move = grid[r][c];
+                if (move < 1 || move > rows * columns || squares[move] != 0) {
+                    return false;
+                }
+                squares[move] = r * columns + c + 1;
+            }
+        }
+        if (squares[1] != row * columns + column + 1) {
+            return false;
+        }
+        for (int move = 2; move <= rows * columns; move++) {
+            int dr = Math.abs((squares[move] - 1) / columns - (squares[move - 1] - 1) / columns);
+            int dc = Math.abs((squares[move] - 1) % columns - (squares[move - 1] - 1) % columns);
+            if (dr * dc != 2) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,42 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class PortfolioKnightsTourTest {
+
+    @Test
+    void findsTheSameTourAsTheWinningCopy() {
+        PortfolioKnightsTour portfolio = new PortfolioKnightsTour(8, 8);
+        assertTrue(portfolio.solve(3, 4));
+
+        KnightsTourSolver winner = new KnightsTourSolver(8, 8, portfolio.winningTieBreak());
+        assertTrue(winner.solve(3, 4));
+        assertArrayEquals(winner.tour(), portfolio.tour());
+    }
+
+    @Test
+    @Timeout(value = 30, unit = TimeUnit.SECONDS)
+    void interruptedSolveStopsEveryCopyBeforeReturning() {
+        PortfolioKnightsTour portfolio = new PortfolioKnightsTour(400, 400);
+
+        Thread.currentThread().interrupt();
+        assertFalse(portfolio.solve(0, 0));
+        assertTrue(Thread.interrupted());
+        assertNull(portfolio.winningTieBreak());
+
+        assertTrue(portfolio.solve(1, 2));
+        int[][] tour = portfolio.tour();
+        KnightsTourSolver winner = new KnightsTourSolver(400, 400, portfolio.winningTieBreak());
+        assertTrue(winner.solveIterative(1, 2));
+        assertArrayEquals(winner.tour(), tour);
+        assertEquals(1, tour[1][2]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+public class RestartingKnightsTourTest {
+
+    @Test
+    void sameSeedGivesTheSameTour() {
+        for (int[] start : new int[][] {{0, 0}, {3, 4}, {9, 2}}) {
+            RestartingKnightsTour first = new RestartingKnightsTour(10, 10, 7);
+            RestartingKnightsTour second = new RestartingKnightsTour(10, 10, 7);
+            assertTrue(first.solve(start[0], start[1]));
+            assertTrue(second.solve(start[0], start[1]));
+            assertArrayEquals(first.tour(), second.tour());
+            assertEquals(first.getRestarts(), second.getRestarts());
+        }
+    }
+
+    @Test
+    void restartBudgetsFollowTheLubySequence() {
+        long[] expected = {1, 1, 2, 1, 1, 2, 4, 1, 1, 2, 1, 1, 2, 4, 8, 1, 1, 2};
+        for (int i = 0; i < expected.length; i++) {
+            assertEquals(expected[i], RestartingKnightsTour.luby(i), "term " + i);
+        }
+        assertEquals(1L << 20, RestartingKnightsTour.luby((1L << 21) - 2));
+    }
+
+    @Test
+    void nodeBudgetEndsTheSearch() {
+        RestartingKnightsTour restarting = new RestartingKnightsTour(6, 6, 0);
+        assertEquals(SearchOutcome.GAVE_UP, restarting.solve(0, 0, SearchLimits.none().maxNodes(0)));
+        assertEquals(SearchOutcome.GAVE_UP, restarting.solve(0, 0, SearchLimits.none().maxNodes(10)));
+        assertEquals(SearchOutcome.SOLVED, restarting.solve(0, 0, SearchLimits.none()));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void timeoutAndCancelFlagEndTheSearch() {
+        RestartingKnightsTour restarting = new RestartingKnightsTour(300, 300, 0);
+        long started = System.nanoTime();
+        assertEquals(SearchOutcome.GAVE_UP, restarting.solve(150, 150, SearchLimits.none().timeout(Duration.ofMillis(1))));
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(2));
+
+        AtomicBoolean cancelled = new AtomicBoolean(true);
+        assertEquals(SearchOutcome.GAVE_UP, restarting.solve(150, 150, SearchLimits.none().cancelledBy(cancelled)));
+    }
+
+    @Test
+    @Timeout(value = 10, unit = TimeUnit.SECONDS)
+    void startsWithoutATourEndWithinTheLimits() {
+        RestartingKnightsTour inner = new RestartingKnightsTour(4, 5, 0);
+        assertEquals(SearchOutcome.NO_TOUR, inner.solve(1, 2, SearchLimits.none()));
+
+        RestartingKnightsTour centre = new RestartingKnightsTour(3, 7, 0);
+        long started = System.nanoTime();
+        SearchOutcome outcome = centre.solve(1, 3, SearchLimits.none().timeout(Duration.ofSeconds(1)));
+        assertNotEquals(SearchOutcome.SOLVED, outcome);
+        assertTrue(System.nanoTime() - started < TimeUnit.SECONDS.toNanos(3));
+    }
+}
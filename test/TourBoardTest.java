@@ -0,0 +1,87 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class TourBoardTest {
+
+    @Test
+    void everyKindOfBoardKeepsItsMoves() {
+        assertRoundTrip(TourBoard.onHeap(7, 9));
+        assertRoundTrip(TourBoard.offHeap(7, 9));
+        assertRoundTrip(TourBoard.mapped(7, 9));
+        assertRoundTrip(TourBoard.allocate(7, 9));
+    }
+
+    @Test
+    void movesCrossFromOneChunkToTheNext() {
+        for (int bits = 2; bits <= 6; bits++) {
+            assertRoundTrip(TourBoard.offHeap(7, 9, bits));
+            assertRoundTrip(TourBoard.mapped(7, 9, bits));
+        }
+        TourBoard board = TourBoard.offHeap(1, 33, 4);
+        board.visit(0, 15, 15);
+        board.visit(0, 16, 16);
+        board.visit(0, 32, 32);
+        assertEquals(15, board.move(0, 15));
+        assertEquals(16, board.move(0, 16));
+        assertEquals(32, board.move(0, 32));
+        assertEquals(0, board.move(0, 17));
+    }
+
+    @Test
+    void rejectsSquaresVisitedTwiceOrOffTheBoard() {
+        TourBoard board = TourBoard.onHeap(3, 4);
+        board.visit(1, 2, 5);
+        assertThrows(IllegalStateException.class, () -> board.visit(1, 2, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.visit(3, 0, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> board.move(0, -1));
+        assertThrows(IllegalArgumentException.class, () -> TourBoard.onHeap(0, 4));
+    }
+
+    @Test
+    void largeBoardsHoldTheConstructedTour() {
+        TourBoard board = new ConstructiveKnightsTour(2100, 2100).build();
+        assertEquals(1, board.move(0, 0));
+        assertEquals(2100 * 2100, countVisited(board));
+    }
+
+    private static void assertRoundTrip(TourBoard board) {
+        int rows = board.getRows();
+        int columns = board.getColumns();
+        int[][] expected = new int[rows][columns];
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                assertFalse(board.isVisited(r, c));
+                assertEquals(0, board.move(r, c));
+                if ((r + c) % 5 != 0) {
+                    expected[r][c] = 1 + r * columns + c;
+                    board.visit(r, c, expected[r][c]);
+                }
+            }
+        }
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                assertEquals(expected[r][c] != 0, board.isVisited(r, c));
+                assertEquals(expected[r][c], board.move(r, c));
+            }
+        }
+        assertArrayEquals(expected, board.toGrid());
+    }
+
+    private static int countVisited(TourBoard board) {
+        int visited = 0;
+        for (int r = 0; r < board.getRows(); r++) {
+            for (int c = 0; c < board.getColumns(); c++) {
+                if (board.isVisited(r, c)) {
+                    visited++;
+                }
+            }
+        }
+        return visited;
+    }
+}
@@ -0,0 +1,64 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import org.junit.jupiter.api.Test;
+
+public class TourCodecTest {
+
+    @Test
+    void roundTripsSolverTours() {
+        for (int[] size : new int[][] {{8, 8}, {5, 5}, {6, 9}, {3, 4}}) {
+            KnightsTourSolver solver = new KnightsTourSolver(size[0], size[1]);
+            assertTrue(solver.solve(0, 0));
+            int[][] tour = solver.tour();
+
+            byte[] record = TourCodec.encode(tour);
+            assertEquals(TourCodec.encodedLength(size[0], size[1]), record.length);
+            assertArrayEquals(tour, TourCodec.decode(ByteBuffer.wrap(record)));
+        }
+    }
+
+    @Test
+    void packsAn8x8TourInto36Bytes() {
+        assertEquals(36, TourCodec.encodedLength(8, 8));
+        assertEquals(12, TourCodec.encodedLength(1, 1));
+        assertArrayEquals(new int[][] {{1}}, TourCodec.decode(ByteBuffer.wrap(TourCodec.encode(new int[][] {{1}}))));
+    }
+
+    @Test
+    void decodesAtTheBufferPositionWithoutMovingIt() {
+        KnightsTourSolver solver = new KnightsTourSolver();
+        assertTrue(solver.solve(2, 5));
+        int[][] tour = solver.tour();
+        ByteBuffer buffer = ByteBuffer.allocate(7 + TourCodec.encodedLength(8, 8));
+        buffer.position(7);
+        TourCodec.encode(tour, buffer);
+        buffer.position(7);
+
+        assertArrayEquals(tour, TourCodec.decode(buffer));
+        assertEquals(7, buffer.position());
+    }
+
+    @Test
+    void rejectsGridsThatAreNotTours() {
+        assertThrows(IllegalArgumentException.class, () -> TourCodec.encode(new int[][] {{1, 1}, {2, 3}}));
+        assertThrows(IllegalArgumentException.class, () -> TourCodec.encode(new int[][] {{1, 2}, {3, 4}}));
+    }
+
+    @Test
+    void rejectsCorruptRecords() {
+        KnightsTourSolver solver = new KnightsTourSolver();
+        assertTrue(solver.solve(0, 0));
+        byte[] record = TourCodec.encode(solver.tour());
+        ByteBuffer truncated = ByteBuffer.wrap(record, 0, record.length - 1).slice();
+        assertThrows(IllegalArgumentException.class, () -> TourCodec.decode(truncated));
+
+        record[TourCodec.headerBytes] ^= 0x7;
+        assertThrows(IllegalArgumentException.class, () -> TourCodec.decode(ByteBuffer.wrap(record)));
+    }
+}
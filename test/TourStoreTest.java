@@ -0,0 +1,60 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class TourStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void readsBackEveryAppendedTourAfterReopening() throws IOException {
+        Path file = directory.resolve("tours.kts");
+        List<int[][]> tours = new ArrayList<>();
+        KnightsTourSolver solver = new KnightsTourSolver();
+        try (TourStore store = new TourStore(file, 16)) {
+            for (int start = 0; start < 10; start++) {
+                assertTrue(solver.solve(start / 8, start % 8));
+                tours.add(solver.tour());
+                assertEquals(start, store.append(tours.get(start)));
+                assertArrayEquals(tours.get(start), store.get(start));
+            }
+        }
+
+        try (TourStore store = new TourStore(file, 1)) {
+            assertEquals(16, store.capacity());
+            assertEquals(tours.size(), store.size());
+            for (int i = 0; i < tours.size(); i++) {
+                assertArrayEquals(tours.get(i), store.get(i));
+            }
+        }
+    }
+
+    @Test
+    void refusesToGrowPastItsCapacity() throws IOException {
+        KnightsTourSolver solver = new KnightsTourSolver(5, 5);
+        assertTrue(solver.solve(0, 0));
+        try (TourStore store = new TourStore(directory.resolve("full.kts"), 1)) {
+            store.append(solver.tour());
+            assertThrows(IllegalStateException.class, () -> store.append(solver.tour()));
+            assertThrows(IndexOutOfBoundsException.class, () -> store.get(1));
+        }
+    }
+
+    @Test
+    void rejectsFilesThatAreNotStores() throws IOException {
+        Path file = Files.write(directory.resolve("other.bin"), new byte[] {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12});
+        assertThrows(IOException.class, () -> new TourStore(file, 4));
+    }
+}
@@ -0,0 +1,80 @@
+package com.thealgorithms.backtracking;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+public class TourWriterTest {
+
+    @Test
+    void textMatchesThePrintfLayoutOfSmallBoards() throws IOException {
+        KnightsTourSolver solver = new KnightsTourSolver();
+        assertTrue(solver.solve(0, 0));
+        int[][] grid = solver.tour();
+
+        StringBuilder expected = new StringBuilder();
+        for (int[] row : grid) {
+            for (int move : row) {
+                expected.append(String.format("%2d ", move));
+            }
+            expected.append('\n');
+        }
+        assertEquals(expected.toString(), write(TourWriter.Format.TEXT, 1 << 20, grid));
+    }
+
+    @Test
+    void textPadsEveryNumberToTheWidestOne() throws IOException {
+        int[][] grid = {{1, 100}, {-5, 7}};
+        assertEquals("  1 100 \n -5   7 \n", write(TourWriter.Format.TEXT, 32, grid));
+    }
+
+    @Test
+    void csvSeparatesNumbersWithCommas() throws IOException {
+        int[][] grid = {{1, 22, 333}, {-4, Integer.MIN_VALUE, Integer.MAX_VALUE}};
+        assertEquals("1,22,333\n-4,-2147483648,2147483647\n", write(TourWriter.Format.CSV, 1 << 20, grid));
+    }
+
+    @Test
+    void buffersSmallerThanARowGiveTheSameOutput() throws IOException {
+        KnightsTourSolver solver = new KnightsTourSolver(40, 40);
+        assertTrue(solver.solve(0, 0));
+        int[][] grid = solver.tour();
+        for (TourWriter.Format format : new TourWriter.Format[] {TourWriter.Format.TEXT, TourWriter.Format.CSV}) {
+            String whole = write(format, 1 << 20, grid);
+            for (int size : new int[] {32, 33, 37, 64, 201, 202}) {
+                assertEquals(whole, write(format, size, grid), format + " with a " + size + "-byte buffer");
+            }
+        }
+
+        int[][] extremes = {{Integer.MIN_VALUE, Integer.MIN_VALUE, Integer.MIN_VALUE}, {Integer.MAX_VALUE, 0, -1}};
+        assertEquals(write(TourWriter.Format.TEXT, 1 << 20, extremes), write(TourWriter.Format.TEXT, 32, extremes));
+        assertEquals(write(TourWriter.Format.CSV, 1 << 20, extremes), write(TourWriter.Format.CSV, 32, extremes));
+    }
+
+    @Test
+    void binaryWritesTheCodecRecord() throws IOException {
+        KnightsTourSolver solver = new KnightsTourSolver(5, 6);
+        assertTrue(solver.solve(0, 0));
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new TourWriter(TourWriter.Format.BINARY).write(solver.tour(), Channels.newChannel(bytes));
+        assertArrayEquals(TourCodec.encode(solver.tour()), bytes.toByteArray());
+    }
+
+    @Test
+    void rejectsBuffersTooSmallForOneNumber() {
+        assertThrows(IllegalArgumentException.class, () -> new TourWriter(TourWriter.Format.TEXT, 31));
+    }
+
+    private static String write(TourWriter.Format format, int bufferSize, int[][] grid) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        new TourWriter(format, bufferSize).write(grid, Channels.newChannel(bytes));
+        return bytes.toString(StandardCharsets.US_ASCII);
+    }
+}